@@ -0,0 +1,6 @@
+#!/usr/bin/env bash
+set -euxo pipefail
+
+# no server needed: benchmarks connect to an in-process fake server
+mvn clean package -P bench -Dmaven.test.skip -Dmaven.javadoc.skip
+java -jar target/benchmarks.jar com.singlestore.jdbc.offline
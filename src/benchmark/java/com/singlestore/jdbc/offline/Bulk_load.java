@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class Bulk_load extends OfflineCommon {
+
+  private static final String[] COLUMNS = new String[] {"id", "t0"};
+  private static final List<Object[]> ROWS = new ArrayList<>();
+
+  static {
+    for (int i = 0; i < 1000; i++) {
+      ROWS.add(new Object[] {i, "ab\\Z😎 value " + i});
+    }
+  }
+
+  @Benchmark
+  public long loadData(MyState state) throws Throwable {
+    return state
+        .connectionText
+        .unwrap(com.singlestore.jdbc.Connection.class)
+        .bulkLoad("perfTestTextBatch", COLUMNS, ROWS);
+  }
+
+  @Benchmark
+  public int[] rewrite(MyState state) throws Throwable {
+    Connection con = state.connectionTextRewrite;
+    try (PreparedStatement prep =
+        con.prepareStatement("INSERT INTO perfTestTextBatch(id, t0) VALUES (?, ?)")) {
+      for (Object[] row : ROWS) {
+        prep.setInt(1, (Integer) row[0]);
+        prep.setString(2, (String) row[1]);
+        prep.addBatch();
+      }
+      return prep.executeBatch();
+    }
+  }
+}
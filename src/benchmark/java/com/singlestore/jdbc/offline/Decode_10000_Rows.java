@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import com.singlestore.jdbc.client.result.CompleteResult;
+import com.singlestore.jdbc.client.socket.impl.PacketReader;
+import com.singlestore.jdbc.client.util.MutableByte;
+import java.io.ByteArrayInputStream;
+import java.sql.ResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * PacketReader and text row decoder cost, without any socket: recorded rows are read from memory
+ * into a {@link CompleteResult}.
+ */
+public class Decode_10000_Rows extends OfflineCommon {
+
+  @State(Scope.Thread)
+  public static class DecodeState {
+    byte[] rows;
+    ColumnDecoder[] columns;
+    Context context;
+    Configuration conf;
+    private java.sql.Connection connection;
+
+    @Setup(Level.Trial)
+    public void doSetup() throws Exception {
+      // a real connection to the fake server provides a fully initialized context
+      connection =
+          java.sql.DriverManager.getConnection(
+              String.format(
+                  "jdbc:singlestore://127.0.0.1:%s/test?user=root&sslMode=DISABLED",
+                  SERVER.getPort()));
+      context = connection.unwrap(com.singlestore.jdbc.Connection.class).getContext();
+      conf = context.getConf();
+      columns =
+          new ColumnDecoder[] {
+            ColumnDecoder.decodeStd(
+                new StandardReadableByteBuf(
+                    FakeServer.columnDefinition("n", FakeServer.TYPE_INT)))
+          };
+      rows = FakeServer.rowPackets(rangeRows(), 3);
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() throws Exception {
+      connection.close();
+    }
+  }
+
+  @Benchmark
+  public int text(DecodeState state) throws Throwable {
+    PacketReader reader =
+        new PacketReader(new ByteArrayInputStream(state.rows), state.conf, new MutableByte());
+    try (CompleteResult rs =
+        new CompleteResult(
+            null,
+            false,
+            0L,
+            state.columns,
+            reader,
+            state.context,
+            ResultSet.TYPE_FORWARD_ONLY,
+            false,
+            false)) {
+      int sum = 0;
+      while (rs.next()) {
+        sum += rs.getInt(1);
+      }
+      return sum;
+    }
+  }
+}
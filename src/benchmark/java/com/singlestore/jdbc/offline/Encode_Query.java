@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.impl.PacketWriter;
+import com.singlestore.jdbc.client.util.MutableByte;
+import com.singlestore.jdbc.message.client.QueryPacket;
+import java.io.OutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/** PacketWriter encoding cost, writing to a discarding stream. */
+public class Encode_Query extends OfflineCommon {
+
+  private static final OutputStream DISCARD =
+      new OutputStream() {
+        @Override
+        public void write(int b) {}
+
+        @Override
+        public void write(byte[] b, int off, int len) {}
+      };
+
+  @State(Scope.Thread)
+  public static class EncodeState {
+    PacketWriter writer;
+    Context context;
+    QueryPacket smallQuery;
+    QueryPacket largeQuery;
+    private java.sql.Connection connection;
+
+    @Setup(Level.Trial)
+    public void doSetup() throws Exception {
+      connection =
+          java.sql.DriverManager.getConnection(
+              String.format(
+                  "jdbc:singlestore://127.0.0.1:%s/test?user=root&sslMode=DISABLED",
+                  SERVER.getPort()));
+      context = connection.unwrap(com.singlestore.jdbc.Connection.class).getContext();
+      writer = new PacketWriter(DISCARD, 1024, null, new MutableByte(), new MutableByte());
+      writer.permitTrace(false);
+      smallQuery = new QueryPacket("select 1");
+      StringBuilder sb = new StringBuilder("INSERT INTO perfTestTextBatch(t0) VALUES ('a')");
+      for (int i = 0; i < 1000; i++) {
+        sb.append(",('").append(i).append("')");
+      }
+      largeQuery = new QueryPacket(sb.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() throws Exception {
+      connection.close();
+    }
+  }
+
+  @Benchmark
+  public int small(EncodeState state) throws Throwable {
+    return state.smallQuery.encode(state.writer, state.context);
+  }
+
+  @Benchmark
+  public int large(EncodeState state) throws Throwable {
+    return state.largeQuery.encode(state.writer, state.context);
+  }
+}
@@ -0,0 +1,456 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process SingleStore wire server, listening on loopback.
+ *
+ * <p>Every answer is encoded once, when registered, and then replayed byte for byte, so that
+ * benchmarks only measure the driver side of the exchange. Only text protocol commands are
+ * supported: handshake, COM_QUERY, COM_PING, COM_INIT_DB, COM_RESET_CONNECTION and COM_QUIT, with
+ * COM_STMT_PREPARE of recorded statements and COM_STMT_CLOSE. Any query without a recorded answer
+ * is acknowledged with an OK packet. LOAD DATA LOCAL INFILE asks
+ * for the file, then discards received content, answering with the number of received lines.
+ */
+public final class FakeServer implements AutoCloseable {
+
+  public static final int TYPE_INT = 3;
+  public static final int TYPE_BIGINT = 8;
+  public static final int TYPE_VARCHAR = 253;
+
+  private static final int SERVER_STATUS_AUTOCOMMIT = 2;
+  private static final int CHARSET_BINARY = 63;
+  private static final int CHARSET_UTF8MB4 = 45;
+  private static final String SERVER_VERSION = "5.7.32";
+  private static final String MEMSQL_VERSION = "8.9.3";
+  private static final String LOAD_DATA_PREFIX = "LOAD DATA LOCAL INFILE '";
+
+  private static final long CAPABILITIES =
+      1L // LONG_PASSWORD
+          | 2L // FOUND_ROWS
+          | 8L // CONNECT_WITH_DB
+          | 128L // LOCAL_FILES
+          | 256L // IGNORE_SPACE
+          | 512L // CLIENT_PROTOCOL_41
+          | 8192L // TRANSACTIONS
+          | 32768L // SECURE_CONNECTION
+          | (1L << 16) // MULTI_STATEMENTS
+          | (1L << 17) // MULTI_RESULTS
+          | (1L << 18) // PS_MULTI_RESULTS
+          | (1L << 19) // PLUGIN_AUTH
+          | (1L << 20); // CONNECT_ATTRS
+
+  private final ServerSocket serverSocket;
+  private final Thread acceptor;
+  private final AtomicInteger threadIds = new AtomicInteger();
+  private final Map<String, byte[]> recorded = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> recordedPrepares = new ConcurrentHashMap<>();
+  private final byte[] okResponse = okPacket(1, 0, 1);
+  private volatile boolean closed;
+
+  /**
+   * Start server on an ephemeral loopback port.
+   *
+   * @throws IOException if server socket cannot be bound
+   */
+  public FakeServer() throws IOException {
+    serverSocket = new ServerSocket(0, 512, InetAddress.getLoopbackAddress());
+    record(
+        "SELECT @@max_allowed_packet, @@aggregator_id, @@sql_select_limit, @@memsql_version",
+        resultSet(
+            new String[] {
+              "@@max_allowed_packet", "@@aggregator_id", "@@sql_select_limit", "@@memsql_version"
+            },
+            new int[] {TYPE_BIGINT, TYPE_BIGINT, TYPE_BIGINT, TYPE_VARCHAR},
+            new String[][] {{"67108864", "1", "18446744073709551615", MEMSQL_VERSION}}));
+    acceptor = new Thread(this::acceptLoop, "fake-singlestore-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Record the raw answer to send when receiving exactly this query.
+   *
+   * @param sql query text
+   * @param response encoded packets, sequence starting at 1
+   */
+  public void record(String sql, byte[] response) {
+    recorded.put(sql, response);
+  }
+
+  /**
+   * Record the raw answer to send when receiving a COM_STMT_PREPARE of exactly this statement.
+   *
+   * @param sql statement text
+   * @param response encoded packets, sequence starting at 1
+   */
+  public void recordPrepare(String sql, byte[] response) {
+    recordedPrepares.put(sql, response);
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    serverSocket.close();
+  }
+
+  private void acceptLoop() {
+    while (!closed) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        int threadId = threadIds.incrementAndGet();
+        Thread handler =
+            new Thread(() -> handle(socket, threadId), "fake-singlestore-conn-" + threadId);
+        handler.setDaemon(true);
+        handler.start();
+      } catch (IOException e) {
+        // server closed
+      }
+    }
+  }
+
+  private void handle(Socket socket, int threadId) {
+    try (Socket s = socket) {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream(), 16384));
+      OutputStream out = new BufferedOutputStream(s.getOutputStream(), 16384);
+      out.write(handshake(threadId));
+      out.flush();
+
+      // handshake response, whatever the credentials
+      readPacket(in);
+      out.write(okPacket(0, 0, 2));
+      out.flush();
+
+      while (!closed) {
+        byte[] packet = readPacket(in);
+        if (packet.length == 0) continue;
+        switch (packet[0]) {
+          case 0x01: // COM_QUIT
+            return;
+          case 0x03: // COM_QUERY
+            String sql = new String(packet, 1, packet.length - 1, StandardCharsets.UTF_8);
+            if (sql.startsWith(LOAD_DATA_PREFIX)) {
+              loadData(sql, in, out);
+              break;
+            }
+            byte[] response = recorded.get(sql);
+            out.write(response != null ? response : okResponse);
+            break;
+          case 0x16: // COM_STMT_PREPARE
+            byte[] prepare =
+                recordedPrepares.get(
+                    new String(packet, 1, packet.length - 1, StandardCharsets.UTF_8));
+            out.write(
+                prepare != null
+                    ? prepare
+                    : errorPacket("server side prepared statement is not recorded"));
+            break;
+          case 0x19: // COM_STMT_CLOSE, no response
+            break;
+          default: // COM_PING, COM_INIT_DB, COM_RESET_CONNECTION, ...
+            out.write(okResponse);
+            break;
+        }
+        // client may pipeline commands: only flush when there is nothing left to answer
+        if (in.available() == 0) out.flush();
+      }
+    } catch (IOException e) {
+      // connection closed by client
+    }
+  }
+
+  private static void loadData(String sql, DataInputStream in, OutputStream out)
+      throws IOException {
+    String fileName =
+        sql.substring(LOAD_DATA_PREFIX.length(), sql.indexOf('\'', LOAD_DATA_PREFIX.length()));
+    PacketBuffer buf = new PacketBuffer();
+    buf.writeByte(0xfb);
+    buf.writeBytes(fileName.getBytes(StandardCharsets.UTF_8));
+    out.write(buf.toPacket(1));
+    out.flush();
+
+    // file content ends with an empty packet
+    long lines = 0;
+    int sequence = 1;
+    byte[] packet;
+    do {
+      packet = readPacket(in);
+      sequence++;
+      for (byte b : packet) {
+        if (b == '\n') lines++;
+      }
+    } while (packet.length > 0);
+    out.write(okPacket(lines, 0, sequence + 1));
+  }
+
+  private static byte[] readPacket(DataInputStream in) throws IOException {
+    byte[] header = new byte[4];
+    in.readFully(header);
+    int length = (header[0] & 0xff) + ((header[1] & 0xff) << 8) + ((header[2] & 0xff) << 16);
+    byte[] body = new byte[length];
+    in.readFully(body);
+    return body;
+  }
+
+  // ***************************************************************************************
+  // packet encoding
+  // ***************************************************************************************
+
+  private static byte[] handshake(int threadId) {
+    PacketBuffer buf = new PacketBuffer();
+    buf.writeByte(0x0a);
+    buf.writeStringNullEnd(SERVER_VERSION);
+    buf.writeInt(threadId);
+    buf.writeBytes(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}); // seed part 1
+    buf.writeByte(0);
+    buf.writeShort((int) (CAPABILITIES & 0xffff));
+    buf.writeByte(CHARSET_UTF8MB4);
+    buf.writeShort(SERVER_STATUS_AUTOCOMMIT);
+    buf.writeShort((int) (CAPABILITIES >>> 16));
+    buf.writeByte(21); // auth data length
+    buf.writeBytes(new byte[10]);
+    buf.writeBytes(new byte[] {9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20}); // seed part 2
+    buf.writeByte(0);
+    buf.writeStringNullEnd("mysql_native_password");
+    return buf.toPacket(0);
+  }
+
+  /**
+   * Encode an OK_Packet.
+   *
+   * @param affectedRows affected rows
+   * @param insertId last insert id
+   * @param sequence packet sequence
+   * @return encoded packet
+   */
+  public static byte[] okPacket(long affectedRows, long insertId, int sequence) {
+    PacketBuffer buf = new PacketBuffer();
+    buf.writeByte(0x00);
+    buf.writeLength(affectedRows);
+    buf.writeLength(insertId);
+    buf.writeShort(SERVER_STATUS_AUTOCOMMIT);
+    buf.writeShort(0);
+    return buf.toPacket(sequence);
+  }
+
+  private static byte[] errorPacket(String message) {
+    PacketBuffer buf = new PacketBuffer();
+    buf.writeByte(0xff);
+    buf.writeShort(1295);
+    buf.writeByte('#');
+    buf.writeBytes("HY000".getBytes(StandardCharsets.US_ASCII));
+    buf.writeBytes(message.getBytes(StandardCharsets.UTF_8));
+    return buf.toPacket(1);
+  }
+
+  private static byte[] eofPacket(int sequence) {
+    PacketBuffer buf = new PacketBuffer();
+    buf.writeByte(0xfe);
+    buf.writeShort(0);
+    buf.writeShort(SERVER_STATUS_AUTOCOMMIT);
+    return buf.toPacket(sequence);
+  }
+
+  /**
+   * Encode a column definition packet body.
+   *
+   * @param name column name
+   * @param type column type
+   * @return packet body, without header
+   */
+  public static byte[] columnDefinition(String name, int type) {
+    PacketBuffer buf = new PacketBuffer();
+    buf.writeLengthString("def");
+    buf.writeLengthString("test");
+    buf.writeLengthString("t");
+    buf.writeLengthString("t");
+    buf.writeLengthString(name);
+    buf.writeLengthString(name);
+    buf.writeByte(0x0c);
+    buf.writeShort(type == TYPE_VARCHAR ? CHARSET_UTF8MB4 : CHARSET_BINARY);
+    buf.writeInt(type == TYPE_VARCHAR ? 1024 : 20);
+    buf.writeByte(type);
+    buf.writeShort(0); // flags
+    buf.writeByte(0); // decimals
+    buf.writeShort(0); // filler
+    return buf.toBody();
+  }
+
+  /**
+   * Encode a text protocol row packet body.
+   *
+   * @param values row values, null for SQL NULL
+   * @return packet body, without header
+   */
+  public static byte[] textRow(String[] values) {
+    PacketBuffer buf = new PacketBuffer();
+    for (String value : values) {
+      if (value == null) {
+        buf.writeByte(0xfb);
+      } else {
+        buf.writeLengthString(value);
+      }
+    }
+    return buf.toBody();
+  }
+
+  /**
+   * Encode a complete text protocol result-set: column count, column definitions, EOF, rows and
+   * final EOF.
+   *
+   * @param names column names
+   * @param types column types
+   * @param rows rows values
+   * @return encoded packets
+   */
+  public static byte[] resultSet(String[] names, int[] types, String[][] rows) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int sequence = 1;
+    PacketBuffer count = new PacketBuffer();
+    count.writeLength(names.length);
+    write(out, count.toPacket(sequence++));
+    for (int i = 0; i < names.length; i++) {
+      write(out, PacketBuffer.packet(columnDefinition(names[i], types[i]), sequence++));
+    }
+    write(out, eofPacket(sequence++));
+    write(out, rowPackets(rows, sequence));
+    return out.toByteArray();
+  }
+
+  /**
+   * Encode a COM_STMT_PREPARE answer of a statement without parameters: prepare OK, column
+   * definitions and EOF.
+   *
+   * @param names column names
+   * @param types column types
+   * @return encoded packets
+   */
+  public static byte[] prepareResult(String[] names, int[] types) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int sequence = 1;
+    PacketBuffer ok = new PacketBuffer();
+    ok.writeByte(0x00);
+    ok.writeInt(1); // statement id
+    ok.writeShort(names.length);
+    ok.writeShort(0); // parameters
+    ok.writeByte(0);
+    ok.writeShort(0); // warnings
+    write(out, ok.toPacket(sequence++));
+    for (int i = 0; i < names.length; i++) {
+      write(out, PacketBuffer.packet(columnDefinition(names[i], types[i]), sequence++));
+    }
+    write(out, eofPacket(sequence));
+    return out.toByteArray();
+  }
+
+  /**
+   * Encode rows followed by the terminating EOF packet, as streamed after result-set metadata.
+   *
+   * @param rows rows values
+   * @param sequence first packet sequence
+   * @return encoded packets
+   */
+  public static byte[] rowPackets(String[][] rows, int sequence) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (String[] row : rows) {
+      write(out, PacketBuffer.packet(textRow(row), sequence++));
+    }
+    write(out, eofPacket(sequence));
+    return out.toByteArray();
+  }
+
+  private static void write(ByteArrayOutputStream out, byte[] bytes) {
+    out.write(bytes, 0, bytes.length);
+  }
+
+  /** Little-endian packet body builder. */
+  private static final class PacketBuffer {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    void writeByte(int value) {
+      out.write(value);
+    }
+
+    void writeShort(int value) {
+      out.write(value);
+      out.write(value >>> 8);
+    }
+
+    void writeInt(int value) {
+      writeShort(value);
+      writeShort(value >>> 16);
+    }
+
+    void writeBytes(byte[] bytes) {
+      out.write(bytes, 0, bytes.length);
+    }
+
+    void writeStringNullEnd(String value) {
+      writeBytes(value.getBytes(StandardCharsets.UTF_8));
+      out.write(0);
+    }
+
+    void writeLength(long length) {
+      if (length < 251) {
+        out.write((int) length);
+      } else if (length < 65536) {
+        out.write(0xfc);
+        writeShort((int) length);
+      } else if (length < 16777216) {
+        out.write(0xfd);
+        writeShort((int) length);
+        out.write((int) (length >>> 16));
+      } else {
+        out.write(0xfe);
+        writeInt((int) length);
+        writeInt((int) (length >>> 32));
+      }
+    }
+
+    void writeLengthString(String value) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeLength(bytes.length);
+      writeBytes(bytes);
+    }
+
+    byte[] toBody() {
+      return out.toByteArray();
+    }
+
+    byte[] toPacket(int sequence) {
+      return packet(out.toByteArray(), sequence);
+    }
+
+    static byte[] packet(byte[] body, int sequence) {
+      byte[] packet = new byte[body.length + 4];
+      packet[0] = (byte) body.length;
+      packet[1] = (byte) (body.length >>> 8);
+      packet[2] = (byte) (body.length >>> 16);
+      packet[3] = (byte) sequence;
+      System.arraycopy(body, 0, packet, 4, body.length);
+      return packet;
+    }
+  }
+}
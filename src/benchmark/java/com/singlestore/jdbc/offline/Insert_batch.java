@@ -0,0 +1,54 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class Insert_batch extends OfflineCommon {
+
+  private static final String VALUE;
+
+  static {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 25; i++) {
+      sb.append("ab\\Z😎");
+    }
+    VALUE = sb.toString();
+  }
+
+  @Benchmark
+  public int[] pipeline(MyState state) throws Throwable {
+    return run(state.connectionText);
+  }
+
+  @Benchmark
+  public int[] rewrite(MyState state) throws Throwable {
+    return run(state.connectionTextRewrite);
+  }
+
+  @Benchmark
+  public int[] rewriteChunked(MyState state) throws Throwable {
+    return run(state.connectionTextRewriteChunked);
+  }
+
+  @Benchmark
+  public int[] noPipeline(MyState state) throws Throwable {
+    return run(state.connectionTextNoPipeline);
+  }
+
+  private int[] run(Connection con) throws Throwable {
+    try (PreparedStatement prep =
+        con.prepareStatement("INSERT INTO perfTestTextBatch(t0) VALUES (?)")) {
+      for (int i = 0; i < 100; i++) {
+        prep.setString(1, VALUE);
+        prep.addBatch();
+      }
+      return prep.executeBatch();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks not requiring any server: connections target an in-process {@link FakeServer} that
+ * replays recorded answers, so results only reflect driver overhead.
+ *
+ * <p>run with: {@code java -jar target/benchmarks.jar com.singlestore.jdbc.offline}
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3)
+@Threads(value = -1) // detecting CPU count
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OfflineCommon {
+
+  public static final String RANGE_QUERY = "select * FROM range_1_10000";
+  public static final String COLS_100_QUERY = "select * FROM test100";
+
+  /** One server for the whole fork, shared by every benchmark thread. */
+  static final FakeServer SERVER;
+
+  static {
+    try {
+      SERVER = new FakeServer();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    SERVER.record(
+        "select 1",
+        FakeServer.resultSet(
+            new String[] {"1"}, new int[] {FakeServer.TYPE_BIGINT}, new String[][] {{"1"}}));
+    SERVER.record(
+        "SELECT @@wait_timeout",
+        FakeServer.resultSet(
+            new String[] {"@@wait_timeout"},
+            new int[] {FakeServer.TYPE_BIGINT},
+            new String[][] {{"28800"}}));
+    SERVER.record(
+        RANGE_QUERY,
+        FakeServer.resultSet(new String[] {"n"}, new int[] {FakeServer.TYPE_INT}, rangeRows()));
+
+    String[] names = new String[100];
+    int[] types = new int[100];
+    String[][] row = new String[1][100];
+    for (int i = 0; i < 100; i++) {
+      names[i] = "i" + (i + 1);
+      types[i] = FakeServer.TYPE_INT;
+      row[0][i] = String.valueOf(i + 1);
+    }
+    SERVER.record(COLS_100_QUERY, FakeServer.resultSet(names, types, row));
+    SERVER.recordPrepare(COLS_100_QUERY, FakeServer.prepareResult(names, types));
+  }
+
+  static String[][] rangeRows() {
+    String[][] rows = new String[10000][1];
+    for (int i = 0; i < 10000; i++) {
+      rows[i][0] = String.valueOf(i + 1);
+    }
+    return rows;
+  }
+
+  @State(Scope.Thread)
+  public static class MyState {
+
+    protected Connection connectionText;
+    protected Connection connectionTextRewrite;
+    protected Connection connectionTextRewriteChunked;
+    protected Connection connectionTextNoPipeline;
+    protected Connection connectionTextChunked;
+    protected Connection connectionTextBuffered;
+    protected Connection connectionBinaryNoCache;
+    protected Connection connectionBinarySharedMetadata;
+
+    @Setup(Level.Trial)
+    public void doSetup() throws Exception {
+      String jdbcBase =
+          String.format(
+              "jdbc:singlestore://127.0.0.1:%s/test?user=root&password=root&sslMode=DISABLED",
+              SERVER.getPort());
+      connectionText = DriverManager.getConnection(jdbcBase);
+      connectionTextRewrite =
+          DriverManager.getConnection(
+              jdbcBase + "&rewriteBatchedStatements=true&cachePrepStmts=false");
+      connectionTextRewriteChunked =
+          DriverManager.getConnection(
+              jdbcBase
+                  + "&rewriteBatchedStatements=true&cachePrepStmts=false"
+                  + "&rewriteBatchChunkSize=2048");
+      connectionTextNoPipeline = DriverManager.getConnection(jdbcBase + "&disablePipeline=true");
+      connectionTextChunked = DriverManager.getConnection(jdbcBase + "&resultChunkSize=65536");
+      connectionTextBuffered =
+          DriverManager.getConnection(jdbcBase + "&readBufferSize=65536&resultChunkSize=65536");
+      connectionBinaryNoCache =
+          DriverManager.getConnection(jdbcBase + "&useServerPrepStmts&cachePrepStmts=false");
+      connectionBinarySharedMetadata =
+          DriverManager.getConnection(
+              jdbcBase + "&useServerPrepStmts&cachePrepStmts=false&sharedPrepareMetadataSize=250");
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() throws SQLException {
+      connectionText.close();
+      connectionTextRewrite.close();
+      connectionTextRewriteChunked.close();
+      connectionTextNoPipeline.close();
+      connectionTextChunked.close();
+      connectionTextBuffered.close();
+      connectionBinaryNoCache.close();
+      connectionBinarySharedMetadata.close();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import com.singlestore.jdbc.SingleStorePoolDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/** Borrow / return of pool connections, with more threads than pool connections. */
+@Threads(value = 64)
+public class Pool_borrow extends OfflineCommon {
+
+  @State(Scope.Benchmark)
+  public static class PoolState {
+
+    private SingleStorePoolDataSource pool;
+
+    @Setup(Level.Trial)
+    public void doSetup() throws Exception {
+      pool =
+          new SingleStorePoolDataSource(
+              String.format(
+                  "jdbc:singlestore://127.0.0.1:%s/test?user=root&password=root&sslMode=DISABLED"
+                      + "&maxPoolSize=16&minPoolSize=16&poolCreationThreads=4",
+                  SERVER.getPort()));
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+      pool.close();
+    }
+  }
+
+  @Benchmark
+  public boolean borrow(PoolState state) throws SQLException {
+    try (Connection con = state.pool.getConnection()) {
+      return con.getAutoCommit();
+    }
+  }
+}
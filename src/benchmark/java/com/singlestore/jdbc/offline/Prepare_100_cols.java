@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * COM_STMT_PREPARE of a 100 columns statement, prepare cache being disabled, like connections of a
+ * pool warming up: every connection prepares the same statements.
+ */
+public class Prepare_100_cols extends OfflineCommon {
+
+  @Benchmark
+  public int binary(MyState state) throws Throwable {
+    return run(state.connectionBinaryNoCache);
+  }
+
+  @Benchmark
+  public int binarySharedMetadata(MyState state) throws Throwable {
+    return run(state.connectionBinarySharedMetadata);
+  }
+
+  private int run(Connection con) throws Throwable {
+    try (PreparedStatement prep = con.prepareStatement(COLS_100_QUERY)) {
+      return prep.getMetaData().getColumnCount();
+    }
+  }
+}
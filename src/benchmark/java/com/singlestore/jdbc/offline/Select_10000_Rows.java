@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class Select_10000_Rows extends OfflineCommon {
+
+  @Benchmark
+  public int text(MyState state) throws Throwable {
+    return run(state.connectionText);
+  }
+
+  @Benchmark
+  public int textChunked(MyState state) throws Throwable {
+    return run(state.connectionTextChunked);
+  }
+
+  @Benchmark
+  public int textBuffered(MyState state) throws Throwable {
+    return run(state.connectionTextBuffered);
+  }
+
+  private int run(Connection con) throws Throwable {
+    try (Statement st = con.createStatement()) {
+      ResultSet rs = st.executeQuery(RANGE_QUERY);
+      int sum = 0;
+      while (rs.next()) {
+        sum += rs.getInt(1);
+      }
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.offline;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class Select_100_cols extends OfflineCommon {
+
+  /** column labels in a fixed pseudo-random order, like ORM mapping order */
+  private static final String[] SHUFFLED_LABELS;
+
+  static {
+    List<String> labels = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      labels.add("i" + (i + 1));
+    }
+    Collections.shuffle(labels, new Random(100));
+    SHUFFLED_LABELS = labels.toArray(new String[0]);
+  }
+
+  @Benchmark
+  public int[] text(MyState state) throws Throwable {
+    return run(state.connectionText);
+  }
+
+  @Benchmark
+  public int[] textReverse(MyState state) throws Throwable {
+    try (PreparedStatement prep = state.connectionText.prepareStatement(COLS_100_QUERY)) {
+      ResultSet rs = prep.executeQuery();
+      rs.next();
+      int[] objs = new int[100];
+      for (int i = 99; i >= 0; i--) {
+        objs[i] = rs.getInt(i + 1);
+      }
+      return objs;
+    }
+  }
+
+  @Benchmark
+  public int[] textByLabel(MyState state) throws Throwable {
+    try (PreparedStatement prep = state.connectionText.prepareStatement(COLS_100_QUERY)) {
+      ResultSet rs = prep.executeQuery();
+      rs.next();
+      int[] objs = new int[100];
+      for (int i = 0; i < 100; i++) {
+        objs[i] = rs.getInt(SHUFFLED_LABELS[i]);
+      }
+      return objs;
+    }
+  }
+
+  private int[] run(Connection con) throws Throwable {
+    try (PreparedStatement prep = con.prepareStatement(COLS_100_QUERY)) {
+      ResultSet rs = prep.executeQuery();
+      rs.next();
+      int[] objs = new int[100];
+      for (int i = 0; i < 100; i++) {
+        objs[i] = rs.getInt(i + 1);
+      }
+      return objs;
+    }
+  }
+}
@@ -63,7 +63,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
         resultSetType,
         resultSetConcurrency,
         defaultFetchSize);
-    parser = ClientParser.parameterParts(sql);
+    parser = ClientParser.parameterParts(sql, con.getContext().getConf().cacheParsedSql());
     parameters = new ParameterList(parser.getParamCount());
   }
 
@@ -151,7 +151,9 @@ public class ClientPreparedStatement extends BasePreparedStatement {
   }
 
   private ClientMessage[] getClientMessageForRewriteBatchedStatement() {
-    RewriteClientParser rewriteClientParser = RewriteClientParser.rewritableParts(parser.getSql());
+    RewriteClientParser rewriteClientParser =
+        RewriteClientParser.rewritableParts(
+            parser.getSql(), con.getContext().getConf().cacheParsedSql());
     return new ClientMessage[] {
       new RewriteQueryMultiPacket(
           con.getContext().getConf(),
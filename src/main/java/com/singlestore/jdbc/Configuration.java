@@ -4,11 +4,14 @@
 // Copyright (c) 2021-2025 SingleStore, Inc.
 package com.singlestore.jdbc;
 
+import com.singlestore.jdbc.codec.CodecCache;
 import com.singlestore.jdbc.export.HaMode;
 import com.singlestore.jdbc.export.SslMode;
 import com.singlestore.jdbc.plugin.Codec;
 import com.singlestore.jdbc.plugin.CredentialPlugin;
 import com.singlestore.jdbc.plugin.credential.CredentialPluginLoader;
+import com.singlestore.jdbc.plugin.listener.QueryListenerLoader;
+import com.singlestore.jdbc.plugin.metrics.PoolMetricsPluginLoader;
 import com.singlestore.jdbc.util.log.Loggers;
 import com.singlestore.jdbc.util.options.OptionAliases;
 import java.io.IOException;
@@ -56,6 +59,7 @@ public class Configuration {
   private static final Set<String> SECURE_FIELDS;
   private static final Set<String> PROPERTIES_TO_SKIP;
   private static final Set<String> SENSITIVE_FIELDS;
+  private static final int DEFAULT_CHUNKED_READ_BUFFER_SIZE = 65536;
 
   static {
     EXCLUDED_FIELDS = new HashSet<>();
@@ -65,6 +69,7 @@ public class Configuration {
     EXCLUDED_FIELDS.add("addresses");
     EXCLUDED_FIELDS.add("transactionIsolation");
     EXCLUDED_FIELDS.add("gssCredential");
+    EXCLUDED_FIELDS.add("codecCache");
 
     SECURE_FIELDS = new HashSet<>();
     SECURE_FIELDS.add("password");
@@ -75,6 +80,7 @@ public class Configuration {
     PROPERTIES_TO_SKIP.add("initialUrl");
     PROPERTIES_TO_SKIP.add("logger");
     PROPERTIES_TO_SKIP.add("codecs");
+    PROPERTIES_TO_SKIP.add("codecCache");
     PROPERTIES_TO_SKIP.add("$jacocoData");
     PROPERTIES_TO_SKIP.add("gssCredential");
 
@@ -102,6 +108,8 @@ public class Configuration {
   private String initSql;
   private TransactionIsolation transactionIsolation;
   private int defaultFetchSize;
+  private int resultChunkSize;
+  private int streamingPrefetchSize;
   private Integer maxAllowedPacket;
   private String geometryDefaultType;
   private String restrictedAuth;
@@ -121,6 +129,7 @@ public class Configuration {
   private String socksProxyHost;
   private Integer socksProxyPort;
   private boolean useReadAheadInput;
+  private int readBufferSize;
   private String tlsSocketType;
 
   // SSL
@@ -141,14 +150,20 @@ public class Configuration {
   private boolean allowMultiQueries;
   private boolean allowLocalInfile;
   private boolean useCompression;
+  private int compressionLevel;
+  private int compressionMinSize;
   private boolean useAffectedRows;
   private boolean disablePipeline;
 
   // prepare
   private boolean cachePrepStmts;
+  private boolean cacheParsedSql;
   private int prepStmtCacheSize;
+  private int sharedPrepareMetadataSize;
   private boolean useServerPrepStmts;
+  private boolean pipelinePrepare;
   private boolean rewriteBatchedStatements;
+  private int rewriteBatchChunkSize;
 
   // authentication
   private CredentialPlugin credentialType;
@@ -170,6 +185,9 @@ public class Configuration {
 
   // HA options
   private int retriesAllDown;
+  private int connectRaceDelay;
+  private int healthCheckInterval;
+  private int discoveryInterval;
   private boolean transactionReplay;
   private int transactionReplaySize;
 
@@ -178,15 +196,21 @@ public class Configuration {
   private String poolName;
   private int maxPoolSize;
   private int minPoolSize;
+  private int poolCreationThreads;
   private int maxIdleTime;
   private boolean registerJmxPool;
   private int poolValidMinDelay;
+  private int poolIdleValidationInterval;
   private boolean useResetConnection;
+  private boolean poolAsyncReset;
+  private String poolMetricsType;
 
   // Logging
   private int maxQuerySizeToLog;
+  private String queryListenerType;
   private String consoleLogLevel;
   private String consoleLogFilepath;
+  private boolean consoleLogAsync;
   private boolean printStackTrace;
   private Integer maxPrintStackSizeToLog;
 
@@ -196,6 +220,7 @@ public class Configuration {
   private boolean vectorExtendedMetadata;
 
   private Codec<?>[] codecs;
+  private CodecCache codecCache;
 
   private Configuration(Builder builder) {
     // Set basic configuration
@@ -230,10 +255,18 @@ public class Configuration {
     initializeExceptionConfig(builder);
 
     // Set pool configuration
-    initializePoolConfig(builder);
+    try {
+      initializePoolConfig(builder);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
 
     // Set logging configuration
-    initializeLoggingConfig(builder);
+    try {
+      initializeLoggingConfig(builder);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
 
     // Set extended type configuration
     initializeExtendedTypesConfig(builder);
@@ -302,8 +335,27 @@ public class Configuration {
     this.socksProxyHost = builder.socksProxyHost;
     this.socksProxyPort = builder.socksProxyPort;
     this.useReadAheadInput = builder.useReadAheadInput != null && builder.useReadAheadInput;
+    if (builder.readBufferSize != null
+        && builder.readBufferSize != 0
+        && builder.readBufferSize < 1024) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Wrong argument value '%d' for readBufferSize, must be 0 or at least 1024",
+              builder.readBufferSize));
+    }
+    this.readBufferSize = builder.readBufferSize != null ? builder.readBufferSize : 0;
     this.tlsSocketType = builder.tlsSocketType;
     this.useCompression = builder.useCompression != null && builder.useCompression;
+    if (builder.compressionLevel != null
+        && (builder.compressionLevel < 0 || builder.compressionLevel > 9)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Wrong argument value '%d' for compressionLevel, must be between 0 and 9",
+              builder.compressionLevel));
+    }
+    this.compressionLevel = builder.compressionLevel != null ? builder.compressionLevel : 6;
+    this.compressionMinSize =
+        builder.compressionMinSize != null ? builder.compressionMinSize : 1536;
   }
 
   private void initializeTransactionConfig(Builder builder) {
@@ -330,10 +382,15 @@ public class Configuration {
     this.dumpQueriesOnException =
         builder.dumpQueriesOnException != null && builder.dumpQueriesOnException;
     this.prepStmtCacheSize = builder.prepStmtCacheSize != null ? builder.prepStmtCacheSize : 250;
+    this.sharedPrepareMetadataSize =
+        builder.sharedPrepareMetadataSize != null ? builder.sharedPrepareMetadataSize : 0;
     this.useAffectedRows = builder.useAffectedRows != null && builder.useAffectedRows;
     this.useServerPrepStmts = builder.useServerPrepStmts != null && builder.useServerPrepStmts;
+    this.pipelinePrepare = builder.pipelinePrepare != null && builder.pipelinePrepare;
     this.rewriteBatchedStatements =
         builder.rewriteBatchedStatements != null && builder.rewriteBatchedStatements;
+    this.rewriteBatchChunkSize =
+        builder.rewriteBatchChunkSize != null ? builder.rewriteBatchChunkSize : 0;
     this.connectionAttributes = builder.connectionAttributes;
     this.allowLocalInfile = builder.allowLocalInfile == null || builder.allowLocalInfile;
     this.allowMultiQueries = builder.allowMultiQueries != null && builder.allowMultiQueries;
@@ -360,11 +417,19 @@ public class Configuration {
             && builder.includeThreadDumpInDeadlockExceptions;
   }
 
-  private void initializePoolConfig(Builder builder) {
+  private void initializePoolConfig(Builder builder) throws SQLException {
     this.pool = builder.pool != null && builder.pool;
     this.poolName = builder.poolName;
     this.maxPoolSize = builder.maxPoolSize != null ? builder.maxPoolSize : 8;
     this.minPoolSize = builder.minPoolSize != null ? builder.minPoolSize : this.maxPoolSize;
+    if (builder.poolCreationThreads != null && builder.poolCreationThreads < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Wrong argument value '%d' for poolCreationThreads, must be >= 1",
+              builder.poolCreationThreads));
+    }
+    this.poolCreationThreads =
+        builder.poolCreationThreads != null ? builder.poolCreationThreads : 1;
     if (builder.maxIdleTime != null) {
       if (builder.maxIdleTime < 2) {
         throw new IllegalArgumentException(
@@ -377,13 +442,23 @@ public class Configuration {
     }
     this.registerJmxPool = builder.registerJmxPool == null || builder.registerJmxPool;
     this.poolValidMinDelay = builder.poolValidMinDelay != null ? builder.poolValidMinDelay : 1000;
+    this.poolIdleValidationInterval =
+        builder.poolIdleValidationInterval != null ? builder.poolIdleValidationInterval : 0;
     this.useResetConnection = builder.useResetConnection != null && builder.useResetConnection;
+    this.poolAsyncReset = builder.poolAsyncReset != null && builder.poolAsyncReset;
+    // ensure plugin is available
+    PoolMetricsPluginLoader.get(builder.poolMetricsType);
+    this.poolMetricsType = builder.poolMetricsType;
   }
 
-  private void initializeLoggingConfig(Builder builder) {
+  private void initializeLoggingConfig(Builder builder) throws SQLException {
     this.maxQuerySizeToLog = builder.maxQuerySizeToLog != null ? builder.maxQuerySizeToLog : 1024;
+    // ensure plugin is available
+    QueryListenerLoader.get(builder.queryListenerType);
+    this.queryListenerType = builder.queryListenerType;
     this.consoleLogLevel = builder.consoleLogLevel;
     this.consoleLogFilepath = builder.consoleLogFilepath;
+    this.consoleLogAsync = builder.consoleLogAsync != null && builder.consoleLogAsync;
     this.printStackTrace = builder.printStackTrace != null && builder.printStackTrace;
     this.maxPrintStackSizeToLog =
         builder.maxPrintStackSizeToLog != null ? builder.maxPrintStackSizeToLog : 10;
@@ -414,10 +489,40 @@ public class Configuration {
     this.requestCredentialDelegation =
         builder.requestCredentialDelegation != null && builder.requestCredentialDelegation;
     this.defaultFetchSize = builder.defaultFetchSize != null ? builder.defaultFetchSize : 0;
+    this.resultChunkSize = builder.resultChunkSize != null ? builder.resultChunkSize : 0;
+    // chunked rows are copied straight from read buffer, without intermediate array per row
+    if (this.resultChunkSize > 0 && this.readBufferSize == 0) {
+      this.readBufferSize = DEFAULT_CHUNKED_READ_BUFFER_SIZE;
+    }
+    this.streamingPrefetchSize =
+        builder.streamingPrefetchSize != null ? builder.streamingPrefetchSize : 0;
     this.tlsSocketType = builder.tlsSocketType;
     this.maxAllowedPacket = builder.maxAllowedPacket;
     this.retriesAllDown = builder.retriesAllDown != null ? builder.retriesAllDown : 120;
+    if (builder.connectRaceDelay != null && builder.connectRaceDelay < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Wrong argument value '%d' for connectRaceDelay, must be >= 0",
+              builder.connectRaceDelay));
+    }
+    this.connectRaceDelay = builder.connectRaceDelay != null ? builder.connectRaceDelay : 0;
+    if (builder.healthCheckInterval != null && builder.healthCheckInterval < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Wrong argument value '%d' for healthCheckInterval, must be >= 0",
+              builder.healthCheckInterval));
+    }
+    this.healthCheckInterval =
+        builder.healthCheckInterval != null ? builder.healthCheckInterval : 0;
+    if (builder.discoveryInterval != null && builder.discoveryInterval < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Wrong argument value '%d' for discoveryInterval, must be >= 0",
+              builder.discoveryInterval));
+    }
+    this.discoveryInterval = builder.discoveryInterval != null ? builder.discoveryInterval : 0;
     this.cachePrepStmts = builder.cachePrepStmts == null || builder.cachePrepStmts;
+    this.cacheParsedSql = builder.cacheParsedSql == null || builder.cacheParsedSql;
     this.transactionReplay = builder.transactionReplay != null && builder.transactionReplay;
     this.transactionReplaySize =
         builder.transactionReplaySize != null ? builder.transactionReplaySize : 64;
@@ -425,6 +530,7 @@ public class Configuration {
     this.restrictedAuth = builder.restrictedAuth;
     this.initSql = builder.initSql;
     this.codecs = null;
+    this.codecCache = null;
   }
 
   private void validateConfiguration() {
@@ -478,7 +584,10 @@ public class Configuration {
             .transactionIsolation(
                 transactionIsolation == null ? null : this.transactionIsolation.getValue())
             .defaultFetchSize(this.defaultFetchSize)
+            .resultChunkSize(this.resultChunkSize)
+            .streamingPrefetchSize(this.streamingPrefetchSize)
             .maxQuerySizeToLog(this.maxQuerySizeToLog)
+            .queryListenerType(this.queryListenerType)
             .maxAllowedPacket(this.maxAllowedPacket)
             .geometryDefaultType(this.geometryDefaultType)
             .geometryDefaultType(this.geometryDefaultType)
@@ -498,6 +607,7 @@ public class Configuration {
             .socksProxyHost(this.socksProxyHost)
             .socksProxyPort(this.socksProxyPort)
             .useReadAheadInput(this.useReadAheadInput)
+            .readBufferSize(this.readBufferSize)
             .tlsSocketType(this.tlsSocketType)
             .sslMode(this.sslMode.name())
             .serverSslCert(this.serverSslCert)
@@ -514,12 +624,18 @@ public class Configuration {
             .allowMultiQueries(this.allowMultiQueries)
             .allowLocalInfile(this.allowLocalInfile)
             .useCompression(this.useCompression)
+            .compressionLevel(this.compressionLevel)
+            .compressionMinSize(this.compressionMinSize)
             .useAffectedRows(this.useAffectedRows)
             .rewriteBatchedStatements(this.rewriteBatchedStatements)
+            .rewriteBatchChunkSize(this.rewriteBatchChunkSize)
             .disablePipeline(this.disablePipeline)
             .cachePrepStmts(this.cachePrepStmts)
+            .cacheParsedSql(this.cacheParsedSql)
             .prepStmtCacheSize(this.prepStmtCacheSize)
+            .sharedPrepareMetadataSize(this.sharedPrepareMetadataSize)
             .useServerPrepStmts(this.useServerPrepStmts)
+            .pipelinePrepare(this.pipelinePrepare)
             .credentialType(this.credentialType == null ? null : this.credentialType.type())
             .sessionVariables(this.sessionVariables)
             .connectionAttributes(this.connectionAttributes)
@@ -535,18 +651,26 @@ public class Configuration {
             .dumpQueriesOnException(this.dumpQueriesOnException)
             .includeThreadDumpInDeadlockExceptions(this.includeThreadDumpInDeadlockExceptions)
             .retriesAllDown(this.retriesAllDown)
+            .connectRaceDelay(this.connectRaceDelay)
+            .healthCheckInterval(this.healthCheckInterval)
+            .discoveryInterval(this.discoveryInterval)
             .transactionReplay(this.transactionReplay)
             .transactionReplaySize(this.transactionReplaySize)
             .pool(this.pool)
             .poolName(this.poolName)
             .maxPoolSize(this.maxPoolSize)
             .minPoolSize(this.minPoolSize)
+            .poolCreationThreads(this.poolCreationThreads)
             .maxIdleTime(this.maxIdleTime)
             .registerJmxPool(this.registerJmxPool)
             .poolValidMinDelay(this.poolValidMinDelay)
+            .poolIdleValidationInterval(this.poolIdleValidationInterval)
             .useResetConnection(this.useResetConnection)
+            .poolAsyncReset(this.poolAsyncReset)
+            .poolMetricsType(this.poolMetricsType)
             .consoleLogLevel(this.consoleLogLevel)
             .consoleLogFilepath(this.consoleLogFilepath)
+            .consoleLogAsync(this.consoleLogAsync)
             .printStackTrace(this.printStackTrace)
             .maxPrintStackSizeToLog(this.maxPrintStackSizeToLog)
             .enableExtendedDataTypes(this.enableExtendedDataTypes)
@@ -1391,6 +1515,24 @@ public class Configuration {
     return useCompression;
   }
 
+  /**
+   * Deflate compression level, from 0 (no compression) to 9 (best compression)
+   *
+   * @return compression level
+   */
+  public int compressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Packet size in bytes below which packets are sent uncompressed
+   *
+   * @return compression minimum size
+   */
+  public int compressionMinSize() {
+    return compressionMinSize;
+  }
+
   /**
    * force returning blank table metadata (for old oracle compatibility)
    *
@@ -1481,6 +1623,16 @@ public class Configuration {
     return prepStmtCacheSize;
   }
 
+  /**
+   * Size of server prepared statement column metadata cache shared between connections having this
+   * configuration, for each host. 0 (default) disables sharing.
+   *
+   * @return shared prepare metadata cache size
+   */
+  public int sharedPrepareMetadataSize() {
+    return sharedPrepareMetadataSize;
+  }
+
   /**
    * Use affected row
    *
@@ -1503,6 +1655,16 @@ public class Configuration {
     return useServerPrepStmts;
   }
 
+  /**
+   * Send first COM_STMT_EXECUTE of a server prepared statement right after its COM_STMT_PREPARE,
+   * without waiting for prepare result.
+   *
+   * @return pipeline prepare and execute
+   */
+  public boolean pipelinePrepare() {
+    return pipelinePrepare;
+  }
+
   public String connectionAttributes() {
     return connectionAttributes;
   }
@@ -1584,6 +1746,27 @@ public class Configuration {
     return defaultFetchSize;
   }
 
+  /**
+   * Size in bytes of shared chunks used to store rows of fully loaded result-sets. 0 (default)
+   * stores each row in its own array. When set, packets are always read through a read buffer
+   * (see {@link #readBufferSize()}).
+   *
+   * @return result chunk size
+   */
+  public int resultChunkSize() {
+    return resultChunkSize;
+  }
+
+  /**
+   * Maximum size in bytes of rows read ahead in background for streaming result-sets. 0 (default)
+   * disables read-ahead.
+   *
+   * @return streaming prefetch size
+   */
+  public int streamingPrefetchSize() {
+    return streamingPrefetchSize;
+  }
+
   public Properties nonMappedOptions() {
     return nonMappedOptions;
   }
@@ -1596,6 +1779,10 @@ public class Configuration {
     return maxQuerySizeToLog;
   }
 
+  public String queryListenerType() {
+    return queryListenerType;
+  }
+
   /**
    * max_allowed_packet value to avoid sending packet with non supported size, droping the
    * connection without reason.
@@ -1610,6 +1797,36 @@ public class Configuration {
     return retriesAllDown;
   }
 
+  /**
+   * Delay in milliseconds before connecting to next host while connection attempts to previous
+   * hosts are still pending. 0 (default) disables racing: hosts are tried one after the other.
+   *
+   * @return connect race delay
+   */
+  public int connectRaceDelay() {
+    return connectRaceDelay;
+  }
+
+  /**
+   * Interval in milliseconds between background health checks of hosts. 0 (default) disables
+   * health checks.
+   *
+   * @return health check interval
+   */
+  public int healthCheckInterval() {
+    return healthCheckInterval;
+  }
+
+  /**
+   * Interval in milliseconds between refreshes of the host list from the cluster aggregator list. 0
+   * (default) disables discovery, hosts being those of the connection string.
+   *
+   * @return aggregator discovery interval
+   */
+  public int discoveryInterval() {
+    return discoveryInterval;
+  }
+
   public boolean pool() {
     return pool;
   }
@@ -1626,6 +1843,10 @@ public class Configuration {
     return minPoolSize;
   }
 
+  public int poolCreationThreads() {
+    return poolCreationThreads;
+  }
+
   public int maxIdleTime() {
     return maxIdleTime;
   }
@@ -1638,18 +1859,44 @@ public class Configuration {
     return poolValidMinDelay;
   }
 
+  public int poolIdleValidationInterval() {
+    return poolIdleValidationInterval;
+  }
+
   public boolean useResetConnection() {
     return useResetConnection;
   }
 
+  public boolean poolAsyncReset() {
+    return poolAsyncReset;
+  }
+
+  public String poolMetricsType() {
+    return poolMetricsType;
+  }
+
   public boolean useReadAheadInput() {
     return useReadAheadInput;
   }
 
+  /**
+   * Size in bytes of the buffer packets are read and parsed in, or 0 (default) to read packets
+   * through a buffered stream.
+   *
+   * @return read buffer size
+   */
+  public int readBufferSize() {
+    return readBufferSize;
+  }
+
   public boolean cachePrepStmts() {
     return cachePrepStmts;
   }
 
+  public boolean cacheParsedSql() {
+    return cacheParsedSql;
+  }
+
   public boolean transactionReplay() {
     return transactionReplay;
   }
@@ -1675,6 +1922,15 @@ public class Configuration {
     return codecs;
   }
 
+  /**
+   * Codec resolution cache, avoiding to scan all codecs for each value.
+   *
+   * @return codec cache
+   */
+  public CodecCache codecCache() {
+    return codecCache;
+  }
+
   public boolean useMysqlVersion() {
     return useMysqlVersion;
   }
@@ -1692,6 +1948,16 @@ public class Configuration {
     return rewriteBatchedStatements;
   }
 
+  /**
+   * Maximum size in bytes of each rewritten batch command, measured on encoded data. 0 (default)
+   * disables chunking: commands are only limited by max_allowed_packet.
+   *
+   * @return rewritten batch chunk size
+   */
+  public int rewriteBatchChunkSize() {
+    return rewriteBatchChunkSize;
+  }
+
   public String getConsoleLogLevel() {
     return consoleLogLevel;
   }
@@ -1700,6 +1966,10 @@ public class Configuration {
     return consoleLogFilepath;
   }
 
+  public boolean consoleLogAsync() {
+    return consoleLogAsync;
+  }
+
   public boolean printStackTrace() {
     return printStackTrace;
   }
@@ -1916,6 +2186,7 @@ public class Configuration {
     List<Codec<?>> result = new ArrayList<>();
     loader.iterator().forEachRemaining(result::add);
     codecs = result.toArray(new Codec<?>[0]);
+    codecCache = new CodecCache(codecs);
   }
 
   private void resetLoggerFactory() {
@@ -1923,7 +2194,8 @@ public class Configuration {
         this.consoleLogLevel,
         this.consoleLogFilepath,
         this.printStackTrace,
-        this.maxPrintStackSizeToLog);
+        this.maxPrintStackSizeToLog,
+        this.consoleLogAsync);
   }
 
   @Override
@@ -1951,7 +2223,10 @@ public class Configuration {
     private Boolean createDatabaseIfNotExist;
     private String initSql;
     private Integer defaultFetchSize;
+    private Integer resultChunkSize;
+    private Integer streamingPrefetchSize;
     private Integer maxQuerySizeToLog;
+    private String queryListenerType;
     private Integer maxAllowedPacket;
     private String geometryDefaultType;
     private String restrictedAuth;
@@ -1972,6 +2247,7 @@ public class Configuration {
     private String socksProxyHost;
     private Integer socksProxyPort;
     private Boolean useReadAheadInput;
+    private Integer readBufferSize;
     private String tlsSocketType;
 
     // SSL
@@ -1992,13 +2268,18 @@ public class Configuration {
     private Boolean allowMultiQueries;
     private Boolean allowLocalInfile;
     private Boolean useCompression;
+    private Integer compressionLevel;
+    private Integer compressionMinSize;
     private Boolean useAffectedRows;
     private Boolean disablePipeline;
 
     // prepare
     private Boolean cachePrepStmts;
+    private Boolean cacheParsedSql;
     private Integer prepStmtCacheSize;
+    private Integer sharedPrepareMetadataSize;
     private Boolean useServerPrepStmts;
+    private Boolean pipelinePrepare;
 
     // authentication
     private String credentialType;
@@ -2021,6 +2302,9 @@ public class Configuration {
 
     // HA options
     private Integer retriesAllDown;
+    private Integer connectRaceDelay;
+    private Integer healthCheckInterval;
+    private Integer discoveryInterval;
     private Boolean transactionReplay;
     private Integer transactionReplaySize;
 
@@ -2029,14 +2313,20 @@ public class Configuration {
     private String poolName;
     private Integer maxPoolSize;
     private Integer minPoolSize;
+    private Integer poolCreationThreads;
     private Integer maxIdleTime;
     private Boolean registerJmxPool;
     private Integer poolValidMinDelay;
+    private Integer poolIdleValidationInterval;
     private Boolean useResetConnection;
+    private Boolean poolAsyncReset;
+    private String poolMetricsType;
 
     private Boolean rewriteBatchedStatements;
+    private Integer rewriteBatchChunkSize;
     private String consoleLogLevel;
     private String consoleLogFilepath;
+    private Boolean consoleLogAsync;
     private Boolean printStackTrace;
     private Integer maxPrintStackSizeToLog;
 
@@ -2357,6 +2647,30 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Deflate compression level when compression is enabled, from 0 (no compression) to 9 (best
+     * compression). Default: 6.
+     *
+     * @param compressionLevel compression level
+     * @return this {@link Builder}
+     */
+    public Builder compressionLevel(Integer compressionLevel) {
+      this.compressionLevel = compressionLevel;
+      return this;
+    }
+
+    /**
+     * Packet size in bytes below which packets are sent uncompressed when compression is enabled.
+     * Default: 1536 (single TCP segment).
+     *
+     * @param compressionMinSize minimum size to compress
+     * @return this {@link Builder}
+     */
+    public Builder compressionMinSize(Integer compressionMinSize) {
+      this.compressionMinSize = compressionMinSize;
+      return this;
+    }
+
     public Builder blankTableNameMeta(Boolean blankTableNameMeta) {
       this.blankTableNameMeta = blankTableNameMeta;
       return this;
@@ -2424,6 +2738,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Share server prepared statement column metadata between connections having the same
+     * configuration, up to this number of statements per host. 0 disables sharing.
+     *
+     * @param sharedPrepareMetadataSize shared cache size
+     * @return this {@link Builder}
+     */
+    public Builder sharedPrepareMetadataSize(Integer sharedPrepareMetadataSize) {
+      this.sharedPrepareMetadataSize = sharedPrepareMetadataSize;
+      return this;
+    }
+
     public Builder useAffectedRows(Boolean useAffectedRows) {
       this.useAffectedRows = useAffectedRows;
       return this;
@@ -2439,6 +2765,21 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * When a server prepared statement is not prepared yet, send COM_STMT_PREPARE and
+     * COM_STMT_EXECUTE at once, execute referring to last prepared statement, saving a round trip.
+     * If server does not support it, statements are prepared before execution again. Statements
+     * with stream parameters (InputStream, Reader, Blob, Clob) or a local infile stream are never
+     * pipelined, since they could not be executed again.
+     *
+     * @param pipelinePrepare pipeline prepare and execute
+     * @return this {@link Builder}
+     */
+    public Builder pipelinePrepare(Boolean pipelinePrepare) {
+      this.pipelinePrepare = pipelinePrepare;
+      return this;
+    }
+
     /**
      * Permit to force autocommit connection value
      *
@@ -2538,6 +2879,31 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Store rows of fully loaded result-sets in shared chunks of this size (in bytes) instead of
+     * one array per row, reducing allocations and GC pressure on big result-sets. 0 disables. When
+     * set and readBufferSize is 0, a 65536 bytes read buffer is used, rows being copied from it.
+     *
+     * @param resultChunkSize chunk size in bytes
+     * @return this {@link Builder}
+     */
+    public Builder resultChunkSize(Integer resultChunkSize) {
+      this.resultChunkSize = resultChunkSize;
+      return this;
+    }
+
+    /**
+     * When using streaming result-sets (fetch size set), read next fetch batch in background while
+     * current one is consumed, up to this size in bytes. 0 disables.
+     *
+     * @param streamingPrefetchSize maximum read-ahead size in bytes
+     * @return this {@link Builder}
+     */
+    public Builder streamingPrefetchSize(Integer streamingPrefetchSize) {
+      this.streamingPrefetchSize = streamingPrefetchSize;
+      return this;
+    }
+
     public Builder tlsSocketType(String tlsSocketType) {
       this.tlsSocketType = nullOrEmpty(tlsSocketType);
       return this;
@@ -2548,6 +2914,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Query listener plugin type, notified with each command measures (SQL, bytes sent and
+     * received, rows, time to first byte and total time).
+     *
+     * @param queryListenerType query listener type
+     * @return this {@link Builder}
+     */
+    public Builder queryListenerType(String queryListenerType) {
+      this.queryListenerType = nullOrEmpty(queryListenerType);
+      return this;
+    }
+
     /**
      * Indicate to driver server max_allowed_packet. This permit to driver to avoid sending commands
      * too big, that would have make server to drop connection
@@ -2565,6 +2943,45 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * When using multiple hosts, start connecting to next host if connection to previous hosts has
+     * not succeeded after this delay in milliseconds, first successful connection being kept. 0
+     * disables racing, hosts being tried one after the other.
+     *
+     * @param connectRaceDelay delay in milliseconds
+     * @return this {@link Builder}
+     */
+    public Builder connectRaceDelay(Integer connectRaceDelay) {
+      this.connectRaceDelay = connectRaceDelay;
+      return this;
+    }
+
+    /**
+     * When using multiple hosts, check hosts in background at this interval in milliseconds, by
+     * connecting with configuration credentials then quitting. Hosts failing check are denied
+     * until a check succeeds. 0 disables health checks.
+     *
+     * @param healthCheckInterval interval in milliseconds
+     * @return this {@link Builder}
+     */
+    public Builder healthCheckInterval(Integer healthCheckInterval) {
+      this.healthCheckInterval = healthCheckInterval;
+      return this;
+    }
+
+    /**
+     * When using multiple hosts, refresh host list at this interval in milliseconds from the
+     * cluster online aggregators, connection string hosts being only used to reach the cluster.
+     * Connections to hosts no longer in the list are drained. 0 disables discovery.
+     *
+     * @param discoveryInterval interval in milliseconds
+     * @return this {@link Builder}
+     */
+    public Builder discoveryInterval(Integer discoveryInterval) {
+      this.discoveryInterval = discoveryInterval;
+      return this;
+    }
+
     public Builder pool(Boolean pool) {
       this.pool = pool;
       return this;
@@ -2585,6 +3002,11 @@ public class Configuration {
       return this;
     }
 
+    public Builder poolCreationThreads(Integer poolCreationThreads) {
+      this.poolCreationThreads = poolCreationThreads;
+      return this;
+    }
+
     public Builder maxIdleTime(Integer maxIdleTime) {
       this.maxIdleTime = maxIdleTime;
       return this;
@@ -2600,11 +3022,26 @@ public class Configuration {
       return this;
     }
 
+    public Builder poolIdleValidationInterval(Integer poolIdleValidationInterval) {
+      this.poolIdleValidationInterval = poolIdleValidationInterval;
+      return this;
+    }
+
     public Builder useResetConnection(Boolean useResetConnection) {
       this.useResetConnection = useResetConnection;
       return this;
     }
 
+    public Builder poolAsyncReset(Boolean poolAsyncReset) {
+      this.poolAsyncReset = poolAsyncReset;
+      return this;
+    }
+
+    public Builder poolMetricsType(String poolMetricsType) {
+      this.poolMetricsType = nullOrEmpty(poolMetricsType);
+      return this;
+    }
+
     /**
      * Cache all socket available information.
      *
@@ -2616,6 +3053,19 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Read socket by bulk into a reusable buffer of this size (in bytes), packets being parsed in
+     * place rather than copied from a buffered stream. Packets bigger than buffer are read in their
+     * own array. 0 disables, using a buffered stream as set by useReadAheadInput.
+     *
+     * @param readBufferSize buffer size in bytes, 0 or at least 1024
+     * @return this {@link Builder}
+     */
+    public Builder readBufferSize(Integer readBufferSize) {
+      this.readBufferSize = readBufferSize;
+      return this;
+    }
+
     /**
      * Cache server prepare result
      *
@@ -2627,6 +3077,17 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Share client side parsing of prepared statement SQL between connections
+     *
+     * @param cacheParsedSql cache client side parsing results
+     * @return this {@link Builder}
+     */
+    public Builder cacheParsedSql(Boolean cacheParsedSql) {
+      this.cacheParsedSql = cacheParsedSql;
+      return this;
+    }
+
     /**
      * Must cache commands in transaction and replay transaction on failover.
      *
@@ -2659,6 +3120,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Limit rewritten batch commands to this size in bytes, measured on encoded data. When set,
+     * next command is encoded while previous one is being sent.
+     *
+     * @param rewriteBatchChunkSize maximum command size in bytes, 0 to disable
+     * @return this {@link Builder}
+     */
+    public Builder rewriteBatchChunkSize(Integer rewriteBatchChunkSize) {
+      this.rewriteBatchChunkSize = rewriteBatchChunkSize;
+      return this;
+    }
+
     public Builder consoleLogLevel(String consoleLogLevel) {
       this.consoleLogLevel = consoleLogLevel;
       return this;
@@ -2669,6 +3142,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Console logger entries are formatted and written by a background thread, logging threads
+     * never waiting on output. TRACE and DEBUG entries are discarded when its buffer is full.
+     *
+     * @param consoleLogAsync use asynchronous console logging
+     * @return this {@link Builder}
+     */
+    public Builder consoleLogAsync(Boolean consoleLogAsync) {
+      this.consoleLogAsync = consoleLogAsync;
+      return this;
+    }
+
     public Builder printStackTrace(Boolean printStackTrace) {
       this.printStackTrace = printStackTrace;
       return this;
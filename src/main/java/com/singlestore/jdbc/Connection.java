@@ -6,14 +6,18 @@
 package com.singlestore.jdbc;
 
 import com.singlestore.jdbc.client.Client;
+import com.singlestore.jdbc.client.Completion;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.impl.StandardClient;
 import com.singlestore.jdbc.client.util.ClosableLock;
 import com.singlestore.jdbc.export.ExceptionFactory;
+import com.singlestore.jdbc.message.ClientMessage;
+import com.singlestore.jdbc.message.client.BulkLoadPacket;
 import com.singlestore.jdbc.message.client.ChangeDbPacket;
 import com.singlestore.jdbc.message.client.PingPacket;
 import com.singlestore.jdbc.message.client.QueryPacket;
 import com.singlestore.jdbc.message.client.ResetPacket;
+import com.singlestore.jdbc.message.server.OkPacket;
 import com.singlestore.jdbc.plugin.array.FloatArray;
 import com.singlestore.jdbc.util.NativeSql;
 import com.singlestore.jdbc.util.constants.Capabilities;
@@ -37,8 +41,11 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Struct;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -63,6 +70,7 @@ public class Connection implements java.sql.Connection {
   private Boolean tableNameCaseSensitivity;
   private boolean readOnly;
   private final boolean canCachePrepStmts;
+  private boolean canPipelinePrepare;
   private final int defaultFetchSize;
   private SingleStorePoolConnection poolConnection;
   private final boolean forceTransactionEnd;
@@ -83,6 +91,8 @@ public class Connection implements java.sql.Connection {
             ? 0
             : client.getInitialSqlSelectLimit().longValue();
     this.canCachePrepStmts = context.getConf().cachePrepStmts();
+    this.canPipelinePrepare =
+        context.getConf().pipelinePrepare() && !context.getConf().disablePipeline();
     this.defaultFetchSize = context.getConf().defaultFetchSize();
     this.queryTimeoutHandler = new QueryTimeoutHandlerImpl(this, lock);
   }
@@ -113,6 +123,55 @@ public class Connection implements java.sql.Connection {
     }
   }
 
+  /**
+   * Load rows into a table using LOAD DATA LOCAL INFILE. Rows are encoded on the fly while
+   * sending file content, so memory use is bounded whatever the number of rows.
+   *
+   * <p>Rows already sent may have been loaded if an error occurs: use a transaction when the load
+   * must be atomic.
+   *
+   * @param table table name, as written in SQL
+   * @param columns column names, or null to load all table columns, in table order
+   * @param rows rows to load, each row containing one value per column
+   * @return number of loaded rows
+   * @throws SQLException if local infile is disabled, a value cannot be encoded or load fails
+   */
+  @SuppressWarnings("try")
+  public long bulkLoad(String table, String[] columns, Iterator<Object[]> rows)
+      throws SQLException {
+    if (!conf.allowLocalInfile()) {
+      throw exceptionFactory.create(
+          "Bulk load requires local infile. Enable `allowLocalInfile` to use bulk load", "42000");
+    }
+    String[] quotedColumns = null;
+    if (columns != null) {
+      quotedColumns = new String[columns.length];
+      for (int i = 0; i < columns.length; i++) {
+        quotedColumns[i] = Driver.enquoteIdentifier(columns[i], false);
+      }
+    }
+    try (ClosableLock ignore = lock.closeableLock()) {
+      Completion completion =
+          client.execute(new BulkLoadPacket(table, quotedColumns, rows), false).get(0);
+      return ((OkPacket) completion).getAffectedRows();
+    }
+  }
+
+  /**
+   * Load rows into a table using LOAD DATA LOCAL INFILE.
+   *
+   * @param table table name, as written in SQL
+   * @param columns column names, or null to load all table columns, in table order
+   * @param rows rows to load, each row containing one value per column
+   * @return number of loaded rows
+   * @throws SQLException if local infile is disabled, a value cannot be encoded or load fails
+   * @see #bulkLoad(String, String[], Iterator)
+   */
+  public long bulkLoad(String table, String[] columns, Iterable<Object[]> rows)
+      throws SQLException {
+    return bulkLoad(table, columns, rows.iterator());
+  }
+
   /**
    * Set sql select limit session engine variable.
    *
@@ -594,7 +653,16 @@ public class Connection implements java.sql.Connection {
       throw exceptionFactory.create("the value supplied for timeout is negative");
     }
     try (ClosableLock ignore = lock.closeableLock()) {
-      client.execute(PingPacket.INSTANCE, true);
+      // temporary lower socket timeout, so an unresponsive server can't block more than timeout
+      int socketTimeout = client.getSocketTimeout();
+      int validationTimeout = (int) Math.min(timeout * 1000L, Integer.MAX_VALUE);
+      boolean bounded = timeout > 0 && (socketTimeout == 0 || socketTimeout > validationTimeout);
+      if (bounded) client.setSocketTimeout(validationTimeout);
+      try {
+        client.execute(PingPacket.INSTANCE, true);
+      } finally {
+        if (bounded && !client.isClosed()) client.setSocketTimeout(socketTimeout);
+      }
       return true;
     } catch (SQLException sqle) {
       return false;
@@ -732,44 +800,74 @@ public class Connection implements java.sql.Connection {
    * <p>BUT : - session variable state are reset only if option useResetConnection is set and - if
    * using the option "useServerPrepStmts", PREPARE statement are still prepared
    *
+   * <p>All needed commands (COM_RESET_CONNECTION, ROLLBACK, autocommit and database change) are
+   * sent as one pipelined batch, so resetting costs a single round trip whatever the connection
+   * state.
+   *
    * @throws SQLException if resetting operation failed
    */
+  @SuppressWarnings("try")
   public void reset() throws SQLException {
     boolean useComReset =
         conf.useResetConnection()
             && getMetaData().getSingleStoreVersion().versionGreaterOrEqual(7, 5, 2);
 
-    if (useComReset) {
-      client.execute(ResetPacket.INSTANCE, true);
-    }
+    try (ClosableLock ignore = lock.closeableLock()) {
+      Context context = client.getContext();
+      int stateFlag = context.getStateFlag();
+      List<ClientMessage> messages = new ArrayList<>(4);
 
-    // in transaction => rollback
-    if (forceTransactionEnd
-        || (client.getContext().getServerStatus() & ServerStatus.IN_TRANSACTION) > 0) {
-      client.execute(new QueryPacket("ROLLBACK"), true);
-    }
+      if (useComReset) {
+        messages.add(ResetPacket.INSTANCE);
+      }
 
-    int stateFlag = getContext().getStateFlag();
-    if (stateFlag != 0) {
-      try {
-        if ((stateFlag & ConnectionState.STATE_NETWORK_TIMEOUT) != 0) {
-          setNetworkTimeout(null, conf.socketTimeout());
-        }
-        if ((stateFlag & ConnectionState.STATE_AUTOCOMMIT) != 0) {
-          setAutoCommit(conf.autocommit() == null ? true : conf.autocommit());
-        }
-        if ((stateFlag & ConnectionState.STATE_DATABASE) != 0) {
-          setCatalog(conf.database());
-        }
-        if ((stateFlag & ConnectionState.STATE_READ_ONLY) != 0) {
-          setReadOnly(false); // default to master connection
+      // in transaction => rollback. COM_RESET_CONNECTION already ends transaction
+      if (forceTransactionEnd
+          || (!useComReset && (context.getServerStatus() & ServerStatus.IN_TRANSACTION) > 0)) {
+        messages.add(new QueryPacket("ROLLBACK"));
+      }
+
+      if ((stateFlag & ConnectionState.STATE_AUTOCOMMIT) != 0) {
+        boolean autoCommit = conf.autocommit() == null ? true : conf.autocommit();
+        // server autocommit default is unknown after COM_RESET_CONNECTION
+        if (useComReset || autoCommit != getAutoCommit()) {
+          messages.add(new QueryPacket("set autocommit=" + ((autoCommit) ? "true" : "false")));
         }
-      } catch (SQLException sqle) {
-        throw exceptionFactory.create("error resetting connection");
       }
-    }
 
-    client.reset();
+      String database = null;
+      if ((stateFlag & ConnectionState.STATE_DATABASE) != 0
+          && conf.database() != null
+          && !(context.hasClientCapability(Capabilities.CLIENT_SESSION_TRACK)
+              && conf.database().equals(context.getDatabase()))) {
+        database = conf.database();
+        messages.add(new ChangeDbPacket(database));
+      }
+
+      if ((stateFlag & ConnectionState.STATE_NETWORK_TIMEOUT) != 0) {
+        client.setSocketTimeout(conf.socketTimeout());
+      }
+      if ((stateFlag & ConnectionState.STATE_READ_ONLY) != 0) {
+        // default to master connection
+        if (this.readOnly) client.setReadOnly(false);
+        this.readOnly = false;
+      }
+
+      if (!messages.isEmpty()) {
+        client.executePipeline(
+            messages.toArray(new ClientMessage[0]),
+            null,
+            0,
+            0L,
+            ResultSet.CONCUR_READ_ONLY,
+            ResultSet.TYPE_FORWARD_ONLY,
+            false,
+            true);
+        if (database != null) context.setDatabase(database);
+      }
+
+      client.reset();
+    }
 
     clearWarnings();
   }
@@ -799,6 +897,20 @@ public class Connection implements java.sql.Connection {
     return exceptionFactory;
   }
 
+  /**
+   * Indicate if server prepared statements can send prepare and execute commands at once.
+   *
+   * @return can pipeline prepare and execute
+   */
+  boolean canPipelinePrepare() {
+    return canPipelinePrepare;
+  }
+
+  /** Stop pipelining prepare and execute commands, server not supporting it. */
+  void disablePipelinePrepare() {
+    canPipelinePrepare = false;
+  }
+
   /**
    * Return a QueryTimeoutHandler.
    *
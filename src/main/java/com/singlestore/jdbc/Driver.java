@@ -62,6 +62,7 @@ public final class Driver implements java.sql.Driver {
     Client client;
     switch (configuration.haMode()) {
       case LOADBALANCE:
+      case LATENCY:
       case SEQUENTIAL:
         client = new FailoverClient(configuration, lock);
         break;
@@ -18,8 +18,10 @@ import com.singlestore.jdbc.message.ClientMessage;
 import com.singlestore.jdbc.message.client.ExecutePacket;
 import com.singlestore.jdbc.message.client.PreparePacket;
 import com.singlestore.jdbc.message.server.OkPacket;
+import com.singlestore.jdbc.util.ClientParser;
 import com.singlestore.jdbc.util.ParameterList;
 import com.singlestore.jdbc.util.timeout.QueryTimeoutHandler;
+import java.sql.BatchUpdateException;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -31,6 +33,8 @@ import java.util.Locale;
 import java.util.regex.Pattern;
 
 public class ServerPreparedStatement extends BasePreparedStatement {
+  // unknown prepared statement handler, server not supporting last prepared statement id
+  private static final int ER_UNKNOWN_STMT_HANDLER = 1243;
   private static final Pattern PREPARABLE_STATEMENT_PATTERN =
       Pattern.compile(
           "^(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*(SELECT|UPDATE|INSERT|DELETE|REPLACE|DO|CALL)",
@@ -102,7 +106,11 @@ public class ServerPreparedStatement extends BasePreparedStatement {
     if (prepareResult == null) {
       if (canCachePrepStmts) prepareResult = con.getContext().getPrepareCacheCmd(cmd, this);
       if (prepareResult == null) {
-        con.getClient().execute(new PreparePacket(cmd), this, true);
+        if (con.canPipelinePrepare() && canPipelinePrepare(cmd)) {
+          if (executePipelinePrepare(cmd)) return;
+        } else {
+          con.getClient().execute(new PreparePacket(cmd), this, true);
+        }
       }
     }
     validParameters();
@@ -123,6 +131,73 @@ public class ServerPreparedStatement extends BasePreparedStatement {
                 false);
   }
 
+  /**
+   * Send COM_STMT_PREPARE and COM_STMT_EXECUTE without waiting for prepare result, execute
+   * referring to last prepared statement (statement id -1), then read both answers.
+   *
+   * @param cmd command
+   * @return false if server does not support executing last prepared statement, statement being
+   *     prepared but not executed
+   * @throws SQLException if prepare or execute fails
+   */
+  private boolean executePipelinePrepare(String cmd) throws SQLException {
+    ClientMessage[] messages =
+        new ClientMessage[] {
+          new PreparePacket(cmd),
+          new ExecutePacket(null, parameters, cmd, this, localInfileInputStream)
+        };
+    try {
+      List<Completion> res =
+          con.getClient()
+              .executePipeline(
+                  messages,
+                  this,
+                  fetchSize,
+                  maxRows,
+                  resultSetConcurrency,
+                  resultSetType,
+                  closeOnCompletion,
+                  false);
+      results = new ArrayList<>(res.subList(1, res.size()));
+      return true;
+    } catch (BatchUpdateException bue) {
+      // both answers have been read. Prepare, if successful, has been released
+      boolean prepared = prepareResult != null;
+      prepareResult = null;
+      SQLException cause =
+          bue.getCause() instanceof SQLException ? (SQLException) bue.getCause() : bue;
+      if (prepared && cause.getErrorCode() == ER_UNKNOWN_STMT_HANDLER) {
+        con.disablePipelinePrepare();
+        con.getClient().execute(new PreparePacket(cmd), this, true);
+        return false;
+      }
+      throw cause;
+    }
+  }
+
+  /**
+   * Indicate if command can be sent pipelined with its prepare.
+   *
+   * <p>All parameters must be set, since, when pipelining, parameters can't be validated against
+   * prepare result before execution. No parameter must be read from a stream, nor any local infile
+   * stream set, since if server does not support executing last prepared statement, command is
+   * executed again, and a stream can only be read once.
+   *
+   * @param cmd command
+   * @return true if parameter number is known, all are set and none is a stream
+   */
+  private boolean canPipelinePrepare(String cmd) {
+    if (localInfileInputStream != null) return false;
+    int paramCount =
+        ClientParser.parameterParts(cmd, con.getContext().getConf().cacheParsedSql())
+            .getParamCount();
+    if (parameters.size() != paramCount) return false;
+    for (int i = 0; i < paramCount; i++) {
+      if (!parameters.containsKey(i) || parameters.get(i).isStream()) return false;
+    }
+    return true;
+  }
+
   private void executeInternalPreparedBatch() throws SQLException {
     checkNotClosed();
     String cmd = escapeTimeout(sql);
@@ -7,6 +7,7 @@ package com.singlestore.jdbc.client;
 
 import com.singlestore.jdbc.BasePreparedStatement;
 import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.export.ExceptionFactory;
 import com.singlestore.jdbc.export.Prepare;
 import java.util.function.Function;
@@ -135,6 +136,13 @@ public interface Context {
    */
   Configuration getConf();
 
+  /**
+   * Get connected host
+   *
+   * @return host address, null if unknown
+   */
+  HostAddress getHostAddress();
+
   /**
    * Get connection transaction isolation level
    *
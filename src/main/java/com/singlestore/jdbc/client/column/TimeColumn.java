@@ -306,7 +306,7 @@ public class TimeColumn extends ColumnDefinitionPacket implements ColumnDecoder
     // specific case for TIME, to handle value not in 00:00:00-23:59:59
     int offset = cal.getTimeZone().getOffset(0);
 
-    if (buf.pos() >= buf.buf().length - 1) {
+    if (length.get() == 0 || buf.pos() >= buf.buf().length - 1) {
       // If time is coming as '00:00:00' then corresponding byte value is null. Hence need to
       // pass default Time value in this case.
       return new Time(-offset);
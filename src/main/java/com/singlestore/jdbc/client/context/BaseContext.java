@@ -158,6 +158,10 @@ public class BaseContext implements Context {
     return conf;
   }
 
+  public HostAddress getHostAddress() {
+    return hostAddress;
+  }
+
   public Integer getTransactionIsolationLevel() {
     return transactionIsolationLevel;
   }
@@ -0,0 +1,241 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.Connection;
+import com.singlestore.jdbc.HostAddress;
+import com.singlestore.jdbc.client.Client;
+import com.singlestore.jdbc.client.util.ClosableLock;
+import com.singlestore.jdbc.client.util.SchedulerProvider;
+import com.singlestore.jdbc.util.log.Logger;
+import com.singlestore.jdbc.util.log.Loggers;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Host list refreshed at runtime from the cluster online aggregators, shared between all
+ * connections having the same connection string hosts.
+ *
+ * <p>Aggregators are listed at fixed delay using a dedicated connection, created with the
+ * configuration that first registered these hosts. Connection string hosts are only used to reach
+ * the cluster: hosts then are the online aggregators, connection string hosts still present being
+ * kept first, in their order. A result not containing any known host is ignored, since reported
+ * addresses are then not the ones client uses (proxy, address translation). Host lists not used for
+ * some time stop being refreshed.
+ */
+public final class AggregatorDiscovery {
+
+  private static final ConcurrentHashMap<List<HostAddress>, Topology> TOPOLOGIES =
+      new ConcurrentHashMap<>();
+  private static final long UNUSED_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+  private static final Logger logger = Loggers.getLogger(AggregatorDiscovery.class);
+
+  private AggregatorDiscovery() {}
+
+  /**
+   * Refresh configuration hosts in background, if not already done.
+   *
+   * @param conf configuration with discovery interval set
+   */
+  public static void register(Configuration conf) {
+    Topology topology = TOPOLOGIES.get(conf.addresses());
+    if (topology == null) {
+      Topology newTopology = new Topology(conf);
+      topology = TOPOLOGIES.putIfAbsent(conf.addresses(), newTopology);
+      if (topology == null) {
+        newTopology.schedule();
+        topology = newTopology;
+      }
+    }
+    topology.lastUsed = System.nanoTime();
+  }
+
+  /**
+   * Current hosts of configuration.
+   *
+   * @param conf configuration
+   * @return discovered hosts, or connection string hosts if discovery is disabled or has not
+   *     succeeded yet
+   */
+  public static List<HostAddress> addresses(Configuration conf) {
+    if (conf.discoveryInterval() == 0) return conf.addresses();
+    Topology topology = TOPOLOGIES.get(conf.addresses());
+    return topology == null ? conf.addresses() : topology.hosts;
+  }
+
+  /**
+   * Number of times configuration aggregators have been listed, whether result has been used or
+   * ignored.
+   *
+   * @param conf configuration
+   * @return aggregator listing count, 0 if discovery is disabled or has not succeeded yet
+   */
+  public static long refreshCount(Configuration conf) {
+    if (conf.discoveryInterval() == 0) return 0;
+    Topology topology = TOPOLOGIES.get(conf.addresses());
+    return topology == null ? 0 : topology.refreshCount;
+  }
+
+  /**
+   * Indicate if host is no longer part of configuration hosts.
+   *
+   * @param conf configuration
+   * @param hostAddress host
+   * @return true if discovery is enabled and host has been removed
+   */
+  public static boolean isRemoved(Configuration conf, HostAddress hostAddress) {
+    return conf.discoveryInterval() > 0
+        && hostAddress != null
+        && !addresses(conf).contains(hostAddress);
+  }
+
+  private static final class Topology implements Runnable {
+    private final Configuration conf;
+    private final int interval;
+    private volatile List<HostAddress> hosts;
+    private volatile long lastUsed = System.nanoTime();
+    private volatile long refreshCount;
+    private ScheduledFuture<?> future;
+
+    // only used by discovery thread
+    private Connection connection;
+    private boolean ignoredLogged;
+
+    private Topology(Configuration conf) {
+      this.hosts = conf.addresses();
+      this.interval = conf.discoveryInterval();
+      // a refresh must not block next ones indefinitely
+      int timeout = Math.max(interval, 1000);
+      if (conf.socketTimeout() > 0) timeout = Math.min(timeout, conf.socketTimeout());
+      this.conf = conf.toBuilder().socketTimeout(timeout).build();
+    }
+
+    private synchronized void schedule() {
+      future =
+          SchedulerProvider.getDiscoveryScheduler()
+              .scheduleWithFixedDelay(this, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+      if (System.nanoTime() - lastUsed > UNUSED_TIMEOUT_NANOS) {
+        TOPOLOGIES.remove(conf.addresses(), this);
+        synchronized (this) {
+          future.cancel(false);
+        }
+        closeConnection();
+        return;
+      }
+
+      try {
+        List<HostAddress> discovered = discover();
+        refreshCount++;
+        if (discovered != null && !discovered.equals(hosts)) {
+          logger.info("Aggregators changed from {} to {}", hosts, discovered);
+          hosts = Collections.unmodifiableList(discovered);
+        }
+      } catch (SQLException e) {
+        logger.debug("Aggregator discovery failed", e);
+        // reconnect on next refresh
+        closeConnection();
+      } catch (RuntimeException e) {
+        // must not stop next refreshes
+        logger.debug("Aggregator discovery error", e);
+        closeConnection();
+      }
+    }
+
+    private List<HostAddress> discover() throws SQLException {
+      Connection con = connection();
+      Client client = con.getClient();
+      HostAddress queried = client.getHostAddress();
+      String queriedIp = client.getSocketIp();
+
+      List<HostAddress> aggregators = new ArrayList<>();
+      try (Statement stmt = con.createStatement();
+          ResultSet rs = stmt.executeQuery("SHOW AGGREGATORS")) {
+        while (rs.next()) {
+          if (!"online".equalsIgnoreCase(rs.getString("State"))) continue;
+          String host = rs.getString("Host");
+          int port = rs.getInt("Port");
+          if (port == queried.port && (host.equals(queried.host) || host.equals(queriedIp))) {
+            // keep address as known by client
+            aggregators.add(queried);
+          } else {
+            aggregators.add(HostAddress.from(host, port));
+          }
+        }
+      }
+
+      if (Collections.disjoint(aggregators, hosts)
+          && Collections.disjoint(aggregators, conf.addresses())) {
+        if (!ignoredLogged) {
+          logger.warn(
+              "Aggregator discovery ignored: none of {} is a known host, queried host being {}",
+              aggregators,
+              queried);
+          ignoredLogged = true;
+        }
+        return null;
+      }
+
+      // queried aggregator has been removed: next refreshes use a current host
+      if (!aggregators.contains(queried)) closeConnection();
+
+      // connection string hosts first, in their order
+      Set<HostAddress> ordered = new LinkedHashSet<>();
+      for (HostAddress hostAddress : conf.addresses()) {
+        if (aggregators.contains(hostAddress)) ordered.add(hostAddress);
+      }
+      ordered.addAll(aggregators);
+      return new ArrayList<>(ordered);
+    }
+
+    private Connection connection() throws SQLException {
+      if (connection != null && !connection.getClient().isClosed()) return connection;
+      connection = null;
+
+      Set<HostAddress> candidates = new LinkedHashSet<>(hosts);
+      candidates.addAll(conf.addresses());
+      SQLException lastException = null;
+      for (HostAddress hostAddress : candidates) {
+        Long denyUntil = FailoverClient.denyList.get(hostAddress);
+        if (denyUntil != null && denyUntil > System.currentTimeMillis()) continue;
+        ClosableLock lock = new ClosableLock();
+        try {
+          connection =
+              new Connection(conf, lock, new StandardClient(conf, hostAddress, lock, false));
+          return connection;
+        } catch (SQLException e) {
+          lastException = e;
+        }
+      }
+      throw lastException != null
+          ? lastException
+          : new SQLException("No available host to discover aggregators");
+    }
+
+    private void closeConnection() {
+      if (connection == null) return;
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        // eat
+      }
+      connection = null;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import com.singlestore.jdbc.client.Completion;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.context.RedoContext;
 import com.singlestore.jdbc.client.util.ClosableLock;
+import com.singlestore.jdbc.client.util.SchedulerProvider;
 import com.singlestore.jdbc.export.ExceptionFactory;
 import com.singlestore.jdbc.export.Prepare;
 import com.singlestore.jdbc.message.ClientMessage;
@@ -26,9 +27,15 @@ import com.singlestore.jdbc.util.log.Loggers;
 import java.math.BigInteger;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Handling connection failing automatic reconnection transparently when possible for multi-host
@@ -65,6 +72,8 @@ public class FailoverClient implements Client {
     this.lock = lock;
     deniedListTimeout =
         Long.parseLong(conf.nonMappedOptions().getProperty("deniedListTimeout", "60000"));
+    if (conf.discoveryInterval() > 0) AggregatorDiscovery.register(conf);
+    if (conf.healthCheckInterval() > 0) HostHealthProber.register(conf);
     currentClient = connectHost();
   }
 
@@ -98,9 +107,13 @@ public class FailoverClient implements Client {
   }
 
   private Client tryConnectToAvailableHost(int retriesLeft) throws SQLException {
+    if (conf.connectRaceDelay() > 0) {
+      return new ConnectRace()
+          .connect(started -> conf.haMode().getAvailableHost(notStarted(started), denyList));
+    }
     SQLException lastException = null;
     while (retriesLeft > 0) {
-      Optional<HostAddress> host = conf.haMode().getAvailableHost(conf.addresses(), denyList);
+      Optional<HostAddress> host = conf.haMode().getAvailableHost(addresses(), denyList);
       if (!host.isPresent()) {
         break;
       }
@@ -118,6 +131,7 @@ public class FailoverClient implements Client {
   }
 
   private Client tryConnectToDeniedHost(int retriesLeft) throws SQLException {
+    if (conf.connectRaceDelay() > 0) return raceConnectToDeniedHost(retriesLeft);
     SQLNonTransientConnectionException lastException = null;
 
     while (retriesLeft > 0) {
@@ -146,17 +160,52 @@ public class FailoverClient implements Client {
         : new SQLNonTransientConnectionException("No host");
   }
 
+  private Client raceConnectToDeniedHost(int retriesLeft) throws SQLException {
+    SQLException lastException = null;
+    while (retriesLeft > 0) {
+      ConnectRace race = new ConnectRace();
+      try {
+        return race.connect(
+            started ->
+                denyList.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .filter(
+                        e -> addresses().contains(e.getKey()) && !started.contains(e.getKey()))
+                    .findFirst()
+                    .map(Map.Entry::getKey));
+      } catch (SQLNonTransientConnectionException | SQLTimeoutException e) {
+        lastException = e;
+        retriesLeft -= Math.max(1, race.attempts);
+        if (retriesLeft > 0) sleep(conf.connectRaceDelay());
+      }
+    }
+    throw (lastException != null)
+        ? lastException
+        : new SQLNonTransientConnectionException("No host");
+  }
+
+  private List<HostAddress> addresses() {
+    return AggregatorDiscovery.addresses(conf);
+  }
+
+  private List<HostAddress> notStarted(Set<HostAddress> started) {
+    if (started.isEmpty()) return addresses();
+    List<HostAddress> hosts = new ArrayList<>(addresses());
+    hosts.removeAll(started);
+    return hosts;
+  }
+
   private Optional<HostAddress> findHostWithLowestDenyTimeout() {
     return denyList.entrySet().stream()
         .sorted(Map.Entry.comparingByValue())
-        .filter(e -> conf.addresses().contains(e.getKey()))
+        .filter(e -> addresses().contains(e.getKey()))
         .findFirst()
         .map(Map.Entry::getKey);
   }
 
   private void validateHostConfiguration() throws SQLNonTransientConnectionException {
     boolean hasValidHost =
-        denyList.entrySet().stream().anyMatch(e -> conf.addresses().contains(e.getKey()));
+        denyList.entrySet().stream().anyMatch(e -> addresses().contains(e.getKey()));
 
     if (!hasValidHost) {
       throw new SQLNonTransientConnectionException("No host defined");
@@ -174,13 +223,149 @@ public class FailoverClient implements Client {
   }
 
   private void sleepBeforeRetry() {
+    sleep(250);
+  }
+
+  private static void sleep(long millis) {
     try {
-      Thread.sleep(250);
+      Thread.sleep(millis);
     } catch (InterruptedException interrupted) {
       Thread.currentThread().interrupt();
     }
   }
 
+  /**
+   * Connection attempts to several hosts, "happy eyeballs" style: a new attempt is started when
+   * previous attempts have neither succeeded nor failed after connectRaceDelay, or as soon as one
+   * fails. First successful connection is kept, connections succeeding later being closed.
+   */
+  private final class ConnectRace {
+    private static final int OPEN = 0;
+    private static final int WON = 1;
+    private static final int ABANDONED = 2;
+
+    private final AtomicInteger state = new AtomicInteger(OPEN);
+    private final BlockingQueue<Attempt> finished = new LinkedBlockingQueue<>();
+    private int attempts;
+    private Client winner;
+
+    /**
+     * Race connections to hosts.
+     *
+     * @param nextHost next host to try, given hosts already tried
+     * @return connected client
+     * @throws SQLException if no connection succeeded
+     */
+    Client connect(Function<Set<HostAddress>, Optional<HostAddress>> nextHost) throws SQLException {
+      ExecutorService executor = SchedulerProvider.getConnectExecutor();
+      Set<HostAddress> started = new HashSet<>();
+      SQLException lastException = null;
+      int running = 0;
+      boolean exhausted = false;
+      try {
+        while (true) {
+          if (!exhausted) {
+            Optional<HostAddress> host = nextHost.apply(started);
+            if (host.isPresent()) {
+              started.add(host.get());
+              attempts++;
+              running++;
+              executor.execute(() -> attempt(host.get()));
+            } else {
+              exhausted = true;
+            }
+          }
+          if (running == 0) break;
+
+          Attempt attempt =
+              exhausted
+                  ? finished.take()
+                  : finished.poll(conf.connectRaceDelay(), TimeUnit.MILLISECONDS);
+          if (attempt == null) continue; // delay elapsed: start next attempt
+          running--;
+          if (attempt.client != null) {
+            denyList.remove(attempt.host);
+            winner = attempt.client;
+            return winner;
+          }
+          if (!(attempt.exception instanceof SQLNonTransientConnectionException)
+              && !(attempt.exception instanceof SQLTimeoutException)) {
+            throw attempt.exception;
+          }
+          lastException = attempt.exception;
+          addToDenyList(attempt.host);
+        }
+      } catch (InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+        throw new SQLNonTransientConnectionException(
+            "Interrupted while connecting", "08000", interrupted);
+      } finally {
+        abandon();
+      }
+      throw (lastException != null)
+          ? lastException
+          : new SQLNonTransientConnectionException("No host");
+    }
+
+    private void attempt(HostAddress host) {
+      Client client;
+      try {
+        client = createClient(host);
+      } catch (SQLException e) {
+        finished.add(new Attempt(host, null, e));
+        return;
+      } catch (RuntimeException e) {
+        finished.add(
+            new Attempt(host, null, new SQLNonTransientConnectionException(e.getMessage(), e)));
+        return;
+      }
+      if (state.compareAndSet(OPEN, WON)) {
+        finished.add(new Attempt(host, client, null));
+      } else {
+        closeQuietly(client);
+      }
+    }
+
+    /** Stop waiting for connections: connections succeeding from now on are closed. */
+    private void abandon() {
+      if (winner != null || state.compareAndSet(OPEN, ABANDONED)) return;
+      // a connection has succeeded, but race has failed or has been interrupted: close it
+      boolean interrupted = false;
+      while (true) {
+        try {
+          Attempt attempt = finished.take();
+          if (attempt.client != null) {
+            closeQuietly(attempt.client);
+            break;
+          }
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void closeQuietly(Client client) {
+      try {
+        client.close();
+      } catch (SQLException e) {
+        // eat
+      }
+    }
+  }
+
+  private static final class Attempt {
+    private final HostAddress host;
+    private final Client client;
+    private final SQLException exception;
+
+    private Attempt(HostAddress host, Client client, SQLException exception) {
+      this.host = host;
+      this.client = client;
+      this.exception = exception;
+    }
+  }
+
   /**
    * Connection loop
    *
@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
+import com.singlestore.jdbc.client.util.ClosableLock;
+import com.singlestore.jdbc.client.util.SchedulerProvider;
+import com.singlestore.jdbc.util.log.Logger;
+import com.singlestore.jdbc.util.log.Loggers;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background health checks of hosts, shared between all connections.
+ *
+ * <p>Each registered host is checked at fixed delay by connecting and authenticating, without
+ * connection post commands, then closing connection properly with COM_QUIT. A host failing check
+ * is put in {@link FailoverClient} deny list, until a check succeeds: application threads then
+ * neither try to connect to a host known to be down, nor wait for deny timeout to expire once it
+ * is back. Hosts not used for some time stop being checked.
+ */
+public final class HostHealthProber {
+
+  private static final ConcurrentHashMap<HostAddress, HostHealth> HOSTS =
+      new ConcurrentHashMap<>();
+  private static final long UNUSED_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+  private static final Logger logger = Loggers.getLogger(HostHealthProber.class);
+
+  private HostHealthProber() {}
+
+  /**
+   * Check configuration hosts in background, if not already done.
+   *
+   * @param conf configuration with health check interval set
+   */
+  public static void register(Configuration conf) {
+    for (HostAddress hostAddress : AggregatorDiscovery.addresses(conf)) {
+      HostHealth health = HOSTS.get(hostAddress);
+      if (health == null) {
+        HostHealth newHealth = new HostHealth(hostAddress, conf);
+        health = HOSTS.putIfAbsent(hostAddress, newHealth);
+        if (health == null) {
+          newHealth.schedule();
+          health = newHealth;
+        }
+      }
+      health.lastUsed = System.nanoTime();
+    }
+  }
+
+  /**
+   * Indicate if last health check of host failed.
+   *
+   * @param hostAddress host
+   * @return true if host is checked and last check failed
+   */
+  public static boolean isDown(HostAddress hostAddress) {
+    if (hostAddress == null) return false;
+    HostHealth health = HOSTS.get(hostAddress);
+    return health != null && health.down;
+  }
+
+  private static final class HostHealth implements Runnable {
+    private final HostAddress hostAddress;
+    private final Configuration conf;
+    private final int interval;
+    private volatile boolean down;
+    private volatile long lastUsed = System.nanoTime();
+    private ScheduledFuture<?> future;
+
+    private HostHealth(HostAddress hostAddress, Configuration conf) {
+      this.hostAddress = hostAddress;
+      this.interval = conf.healthCheckInterval();
+      // a check must not last more than interval
+      int timeout =
+          conf.connectTimeout() > 0 ? Math.min(conf.connectTimeout(), interval) : interval;
+      this.conf = conf.toBuilder().connectTimeout(timeout).build();
+    }
+
+    private synchronized void schedule() {
+      future =
+          SchedulerProvider.getHealthCheckScheduler()
+              .scheduleWithFixedDelay(this, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+      if (System.nanoTime() - lastUsed > UNUSED_TIMEOUT_NANOS) {
+        HOSTS.remove(hostAddress, this);
+        synchronized (this) {
+          future.cancel(false);
+        }
+        return;
+      }
+
+      try {
+        check();
+        if (down) logger.info("Host {} health check succeeded", hostAddress);
+        down = false;
+        FailoverClient.denyList.remove(hostAddress);
+      } catch (SQLException e) {
+        if (!down) logger.warn("Host {} health check failed: {}", hostAddress, e.getMessage());
+        down = true;
+        // denied until next check
+        FailoverClient.denyList.put(
+            hostAddress, System.currentTimeMillis() + 2L * interval + conf.connectTimeout());
+      } catch (RuntimeException e) {
+        // must not stop next checks
+        logger.debug("Host " + hostAddress + " health check error", e);
+      }
+    }
+
+    private void check() throws SQLException {
+      // complete authentication then quit: server must not count check as an aborted connection,
+      // hosts having too many of them being blocked (max_connect_errors)
+      new StandardClient(conf, hostAddress, new ClosableLock(), true).close();
+    }
+  }
+}
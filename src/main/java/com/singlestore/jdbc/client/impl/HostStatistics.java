@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+import com.singlestore.jdbc.HostAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Response time statistics of a host, shared between all connections to that host.
+ *
+ * <p>Latency is an exponentially weighted moving average of handshake and query response times,
+ * updated without lock: concurrent samples may occasionally be lost, which is harmless for load
+ * balancing. Latency not updated for some time is considered unknown, so that hosts that were slow
+ * get tried again.
+ */
+public final class HostStatistics {
+
+  private static final ConcurrentHashMap<HostAddress, HostStatistics> HOSTS =
+      new ConcurrentHashMap<>();
+  // weight of a new sample in moving average
+  private static final double WEIGHT = 0.3;
+  private static final long EXPIRATION_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile double latencyNanos;
+  private volatile long lastUpdateNanos;
+
+  private HostStatistics() {}
+
+  /**
+   * Get statistics of a host, creating them if needed.
+   *
+   * @param hostAddress host
+   * @return host statistics
+   */
+  public static HostStatistics forHost(HostAddress hostAddress) {
+    return HOSTS.computeIfAbsent(hostAddress, h -> new HostStatistics());
+  }
+
+  /**
+   * Get statistics of a host if any.
+   *
+   * @param hostAddress host
+   * @return host statistics, or null if none
+   */
+  public static HostStatistics lookup(HostAddress hostAddress) {
+    return HOSTS.get(hostAddress);
+  }
+
+  /** Indicate that a request is sent to host. */
+  public void requestStarted() {
+    inFlight.incrementAndGet();
+  }
+
+  /** Indicate that a request sent to host has completed. */
+  public void requestEnded() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * Add a response time sample.
+   *
+   * @param nanos response time in nanoseconds
+   */
+  public void recordLatency(long nanos) {
+    long now = System.nanoTime();
+    double previous = latencyNanos;
+    latencyNanos =
+        previous == 0 || now - lastUpdateNanos > EXPIRATION_NANOS
+            ? nanos
+            : previous + WEIGHT * (nanos - previous);
+    lastUpdateNanos = now;
+  }
+
+  /**
+   * Average response time.
+   *
+   * @return average response time in nanoseconds, or 0 if unknown
+   */
+  public double latencyNanos() {
+    double latency = latencyNanos;
+    if (latency == 0 || System.nanoTime() - lastUpdateNanos > EXPIRATION_NANOS) return 0;
+    return latency;
+  }
+
+  /**
+   * Number of requests currently waiting for host response.
+   *
+   * @return in-flight request number
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Expected cost of a new request: average response time, multiplied by the number of requests
+   * that would be waiting for host response.
+   *
+   * @return expected cost, 0 if latency is unknown
+   */
+  public double load() {
+    return latencyNanos() * (inFlight() + 1);
+  }
+
+  /**
+   * Expected cost of a new request to host.
+   *
+   * @param hostAddress host
+   * @return expected cost, 0 if unknown
+   */
+  public static double load(HostAddress hostAddress) {
+    HostStatistics statistics = HOSTS.get(hostAddress);
+    return statistics == null ? 0 : statistics.load();
+  }
+}
@@ -0,0 +1,211 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.ReadableByteBuf;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Column metadata of server prepared statements, shared between all connections having the same
+ * configuration, for each host.
+ *
+ * <p>Statement ids stay connection specific: each connection still sends its own PREPARE command,
+ * but column definitions are decoded only once. Column decoders are immutable, so they can be
+ * shared. Cached decoders are only used when server sends the very same column definitions, so a
+ * schema change is never hidden: received definitions are compared in place with cached ones,
+ * without being copied. Eviction is approximate (an arbitrary entry is removed when full), avoiding
+ * any lock. Caches of configurations not used for some time are released.
+ */
+public final class PrepareMetadataCache {
+
+  private static final ConcurrentHashMap<Configuration, PrepareMetadataCache> CACHES =
+      new ConcurrentHashMap<>();
+  private static final long UNUSED_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+  private final ConcurrentHashMap<HostAddress, ConcurrentHashMap<String, Entry>> hosts =
+      new ConcurrentHashMap<>();
+  private final int maxSize;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile long lastUsed = System.nanoTime();
+
+  private PrepareMetadataCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Get shared cache of a configuration, creating it if needed.
+   *
+   * @param conf configuration, with shared prepare metadata size set
+   * @return configuration cache
+   */
+  public static PrepareMetadataCache forConfiguration(Configuration conf) {
+    PrepareMetadataCache cache = CACHES.get(conf);
+    if (cache == null) {
+      // release caches of configurations no longer used, map only growing here
+      long now = System.nanoTime();
+      CACHES.values().removeIf(c -> now - c.lastUsed > UNUSED_TIMEOUT_NANOS);
+      cache =
+          CACHES.computeIfAbsent(
+              conf, c -> new PrepareMetadataCache(c.sharedPrepareMetadataSize()));
+    }
+    cache.lastUsed = System.nanoTime();
+    return cache;
+  }
+
+  /**
+   * Get shared cache of a configuration if any.
+   *
+   * @param conf configuration
+   * @return configuration cache, or null if none
+   */
+  public static PrepareMetadataCache lookup(Configuration conf) {
+    return CACHES.get(conf);
+  }
+
+  /**
+   * Get cached column metadata, to be compared with column definitions received from server.
+   *
+   * @param hostAddress host
+   * @param key cache key
+   * @return cached entry, or null if none
+   */
+  public Entry get(HostAddress hostAddress, String key) {
+    ConcurrentHashMap<String, Entry> cache = hosts.get(hostAddress);
+    return cache == null ? null : cache.get(key);
+  }
+
+  /**
+   * Use cached column metadata, server having sent the very same column definitions.
+   *
+   * @param entry cached entry
+   * @return cached columns
+   */
+  public ColumnDecoder[] hit(Entry entry) {
+    hits.increment();
+    return entry.columns;
+  }
+
+  /**
+   * Cache column metadata, no identical one being cached, replacing any previous metadata of key
+   *
+   * @param hostAddress host
+   * @param key cache key
+   * @param definitions column definition packets received from server
+   * @param columns column metadata decoded from definitions, using definitions arrays
+   */
+  public void put(
+      HostAddress hostAddress, String key, byte[][] definitions, ColumnDecoder[] columns) {
+    misses.increment();
+    ConcurrentHashMap<String, Entry> cache =
+        hosts.computeIfAbsent(hostAddress, h -> new ConcurrentHashMap<>());
+    if (cache.size() >= maxSize && !cache.containsKey(key)) {
+      Iterator<String> it = cache.keySet().iterator();
+      if (it.hasNext() && cache.remove(it.next()) != null) evictions.increment();
+    }
+    cache.put(key, new Entry(definitions, columns));
+  }
+
+  /**
+   * Remove cached column metadata of key, if still the given one, server having sent different
+   * metadata.
+   *
+   * @param hostAddress host
+   * @param key cache key
+   * @param columns outdated column metadata
+   */
+  public void invalidate(HostAddress hostAddress, String key, ColumnDecoder[] columns) {
+    ConcurrentHashMap<String, Entry> cache = hosts.get(hostAddress);
+    if (cache == null) return;
+    Entry entry = cache.get(key);
+    if (entry != null && entry.columns == columns) cache.remove(key, entry);
+  }
+
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  public long missCount() {
+    return misses.sum();
+  }
+
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  public int size() {
+    int size = 0;
+    for (ConcurrentHashMap<String, Entry> cache : hosts.values()) size += cache.size();
+    return size;
+  }
+
+  /** Empty cache and reset counters. */
+  public void clear() {
+    hosts.clear();
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  /** Column metadata with the column definition packets it has been decoded from. */
+  public static final class Entry {
+    private final byte[][] definitions;
+    private final ColumnDecoder[] columns;
+
+    private Entry(byte[][] definitions, ColumnDecoder[] columns) {
+      this.definitions = definitions;
+      this.columns = columns;
+    }
+
+    /**
+     * Column number
+     *
+     * @return column number
+     */
+    public int size() {
+      return definitions.length;
+    }
+
+    /**
+     * Indicate if column definition packet is identical to cached one, comparing packet content in
+     * place.
+     *
+     * @param index column index
+     * @param packet column definition packet received from server
+     * @return true if identical
+     */
+    public boolean matches(int index, ReadableByteBuf packet) {
+      byte[] definition = definitions[index];
+      int length = packet.readableBytes();
+      if (definition.length != length) return false;
+      byte[] bytes = packet.buf();
+      int pos = packet.pos();
+      for (int i = 0; i < length; i++) {
+        if (definition[i] != bytes[pos + i]) return false;
+      }
+      return true;
+    }
+
+    /**
+     * Copy first cached column definitions and metadata, identical to received ones.
+     *
+     * @param definitions destination definitions
+     * @param columns destination columns
+     * @param length number of columns to copy
+     */
+    public void copyTo(byte[][] definitions, ColumnDecoder[] columns, int length) {
+      System.arraycopy(this.definitions, 0, definitions, 0, length);
+      System.arraycopy(this.columns, 0, columns, 0, length);
+    }
+  }
+}
@@ -15,15 +15,20 @@ import com.singlestore.jdbc.client.context.BaseContext;
 import com.singlestore.jdbc.client.context.RedoContext;
 import com.singlestore.jdbc.client.result.Result;
 import com.singlestore.jdbc.client.result.StreamingResult;
+import com.singlestore.jdbc.client.socket.Reader;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.socket.impl.BufferedPacketReader;
 import com.singlestore.jdbc.client.socket.impl.CompressInputStream;
 import com.singlestore.jdbc.client.socket.impl.CompressOutputStream;
+import com.singlestore.jdbc.client.socket.impl.MeteredInputStream;
+import com.singlestore.jdbc.client.socket.impl.MeteredOutputStream;
 import com.singlestore.jdbc.client.socket.impl.PacketReader;
 import com.singlestore.jdbc.client.socket.impl.PacketWriter;
 import com.singlestore.jdbc.client.socket.impl.ReadAheadBufferedStream;
 import com.singlestore.jdbc.client.util.ClosableLock;
 import com.singlestore.jdbc.client.util.MutableByte;
 import com.singlestore.jdbc.export.ExceptionFactory;
+import com.singlestore.jdbc.export.HaMode;
 import com.singlestore.jdbc.export.MaxAllowedPacketException;
 import com.singlestore.jdbc.export.Prepare;
 import com.singlestore.jdbc.message.ClientMessage;
@@ -33,11 +38,15 @@ import com.singlestore.jdbc.message.client.QueryPacket;
 import com.singlestore.jdbc.message.client.QuitPacket;
 import com.singlestore.jdbc.message.server.ErrorPacket;
 import com.singlestore.jdbc.message.server.InitialHandshakePacket;
+import com.singlestore.jdbc.message.server.OkPacket;
 import com.singlestore.jdbc.message.server.PrepareResultPacket;
 import com.singlestore.jdbc.plugin.Credential;
 import com.singlestore.jdbc.plugin.CredentialPlugin;
+import com.singlestore.jdbc.plugin.QueryEvent;
+import com.singlestore.jdbc.plugin.QueryListener;
 import com.singlestore.jdbc.plugin.authentication.addon.ClearPasswordPluginFactory;
 import com.singlestore.jdbc.plugin.credential.browser.BrowserCredentialPlugin;
+import com.singlestore.jdbc.plugin.listener.QueryListenerLoader;
 import com.singlestore.jdbc.util.Security;
 import com.singlestore.jdbc.util.Version;
 import com.singlestore.jdbc.util.constants.Capabilities;
@@ -54,8 +63,10 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.sql.*;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Executor;
 import javax.net.ssl.SSLSocket;
@@ -73,7 +84,7 @@ public class StandardClient implements Client, AutoCloseable {
   protected Writer writer;
   protected Context context;
   private boolean closed = false;
-  private PacketReader reader;
+  private Reader reader;
   private com.singlestore.jdbc.Statement streamStmt = null;
   private ClientMessage streamMsg = null;
   private int socketTimeout;
@@ -81,6 +92,15 @@ public class StandardClient implements Client, AutoCloseable {
   private BigInteger initialSqlSelectLimit;
   private Version singleStoreVersion;
 
+  // query listener measures, all null when no listener is configured
+  private final QueryListener queryListener;
+  private final ArrayDeque<PendingQuery> pendingQueries;
+  private MeteredInputStream meteredIn;
+  private MeteredOutputStream meteredOut;
+
+  // host response time statistics, null if not used by HA mode
+  private final HostStatistics hostStatistics;
+
   /**
    * Constructor
    *
@@ -101,6 +121,12 @@ public class StandardClient implements Client, AutoCloseable {
     this.exceptionFactory = new ExceptionFactory(conf, hostAddress);
     this.disablePipeline = conf.disablePipeline();
     this.socketTimeout = conf.socketTimeout();
+    this.queryListener = QueryListenerLoader.get(conf.queryListenerType());
+    this.pendingQueries = queryListener == null ? null : new ArrayDeque<>();
+    this.hostStatistics =
+        conf.haMode() == HaMode.LATENCY && hostAddress != null
+            ? HostStatistics.forHost(hostAddress)
+            : null;
 
     String host = hostAddress != null ? hostAddress.host : null;
 
@@ -130,20 +156,19 @@ public class StandardClient implements Client, AutoCloseable {
   }
 
   private void connect(String host, boolean skipPostCommands) throws SQLException {
+    long connectStart = System.nanoTime();
     this.socket = ConnectionHelper.connectSocket(conf, hostAddress);
     try {
       // **********************************************************************
       // creating socket
       // **********************************************************************
       OutputStream out = socket.getOutputStream();
-      InputStream in =
-          conf.useReadAheadInput()
-              ? new ReadAheadBufferedStream(socket.getInputStream())
-              : new BufferedInputStream(socket.getInputStream(), 16384);
+      InputStream in = inputStream(socket.getInputStream());
 
       assignStream(out, in, conf, null);
       configureTimeout();
       InitialHandshakePacket handshake = handleServerHandshake();
+      if (hostStatistics != null) hostStatistics.recordLatency(System.nanoTime() - connectStart);
       long clientCapabilities = setupClientCapabilities(handshake);
       // **********************************************************************
       // changing to SSL socket if needed
@@ -160,10 +185,7 @@ public class StandardClient implements Client, AutoCloseable {
 
       if (sslSocket != null) {
         out = new BufferedOutputStream(sslSocket.getOutputStream(), 16384);
-        in =
-            conf.useReadAheadInput()
-                ? new ReadAheadBufferedStream(sslSocket.getInputStream())
-                : new BufferedInputStream(sslSocket.getInputStream(), 16384);
+        in = inputStream(sslSocket.getInputStream());
         assignStream(out, in, conf, handshake.getThreadId());
       }
       handleAuthentication(handshake, clientCapabilities);
@@ -200,20 +222,38 @@ public class StandardClient implements Client, AutoCloseable {
     // **********************************************************************
     if ((clientCapabilities & Capabilities.COMPRESS) != 0) {
       assignStream(
-          new CompressOutputStream(out, compressionSequence),
-          new CompressInputStream(in, compressionSequence),
+          new CompressOutputStream(
+              out, compressionSequence, conf.compressionLevel(), conf.compressionMinSize()),
+          new CompressInputStream(
+              conf.readBufferSize() > 0 ? new BufferedInputStream(in, 16384) : in,
+              compressionSequence),
           conf,
           threadId);
     }
   }
 
+  private InputStream inputStream(InputStream socketInputStream) {
+    // packet reader buffering itself, socket is read directly
+    if (conf.readBufferSize() > 0) return socketInputStream;
+    return conf.useReadAheadInput()
+        ? new ReadAheadBufferedStream(socketInputStream)
+        : new BufferedInputStream(socketInputStream, 16384);
+  }
+
   private void assignStream(OutputStream out, InputStream in, Configuration conf, Long threadId) {
+    if (queryListener != null) {
+      out = meteredOut = new MeteredOutputStream(out);
+      in = meteredIn = new MeteredInputStream(in);
+    }
     this.writer =
         new PacketWriter(
             out, conf.maxQuerySizeToLog(), conf.maxAllowedPacket(), sequence, compressionSequence);
     this.writer.setServerThreadId(threadId, hostAddress);
 
-    this.reader = new PacketReader(in, conf, sequence);
+    this.reader =
+        conf.readBufferSize() > 0
+            ? new BufferedPacketReader(in, conf, sequence)
+            : new PacketReader(in, conf, sequence);
     this.reader.setServerThreadId(threadId, hostAddress);
   }
 
@@ -443,6 +483,7 @@ public class StandardClient implements Client, AutoCloseable {
       if (logger.isDebugEnabled() && message.description() != null) {
         logger.debug("execute query: {}", message.description());
       }
+      if (queryListener != null) return sendMeteredQuery(message);
       return message.encode(writer, context);
     } catch (IOException ioException) {
       if (ioException instanceof MaxAllowedPacketException) {
@@ -467,6 +508,19 @@ public class StandardClient implements Client, AutoCloseable {
     }
   }
 
+  private int sendMeteredQuery(ClientMessage message) throws IOException, SQLException {
+    PendingQuery pending = new PendingQuery(message, System.nanoTime(), meteredOut.count());
+    int nbResp = message.encode(writer, context);
+    pending.bytesSent = meteredOut.count() - pending.bytesSent;
+    pending.remainingResponses = nbResp;
+    if (nbResp > 0) {
+      pendingQueries.add(pending);
+    } else {
+      fireQueryCompleted(pending);
+    }
+    return nbResp;
+  }
+
   @Override
   public List<Completion> execute(ClientMessage message, boolean canRedo) throws SQLException {
     return execute(
@@ -525,22 +579,28 @@ public class StandardClient implements Client, AutoCloseable {
                   canRedo));
         }
       } else {
-        for (int i = 0; i < messages.length; i++) {
-          responseMsg[i] = sendQuery(messages[i]);
-        }
-        while (readCounter < messages.length) {
-          readCounter++;
-          for (perMsgCounter = 0; perMsgCounter < responseMsg[readCounter - 1]; perMsgCounter++) {
-            results.addAll(
-                readResponse(
-                    stmt,
-                    messages[readCounter - 1],
-                    fetchSize,
-                    maxRows,
-                    resultSetConcurrency,
-                    resultSetType,
-                    closeOnCompletion));
+        // response time of many commands is not representative: only count in-flight requests
+        if (hostStatistics != null) hostStatistics.requestStarted();
+        try {
+          for (int i = 0; i < messages.length; i++) {
+            responseMsg[i] = sendQuery(messages[i]);
+          }
+          while (readCounter < messages.length) {
+            readCounter++;
+            for (perMsgCounter = 0; perMsgCounter < responseMsg[readCounter - 1]; perMsgCounter++) {
+              results.addAll(
+                  readResponse(
+                      stmt,
+                      messages[readCounter - 1],
+                      fetchSize,
+                      maxRows,
+                      resultSetConcurrency,
+                      resultSetType,
+                      closeOnCompletion));
+            }
           }
+        } finally {
+          if (hostStatistics != null) hostStatistics.requestEnded();
         }
       }
       return results;
@@ -615,16 +675,33 @@ public class StandardClient implements Client, AutoCloseable {
       boolean closeOnCompletion,
       boolean canRedo)
       throws SQLException {
-    List<Completion> completions =
-        executeInternal(
-            message,
-            stmt,
-            fetchSize,
-            maxRows,
-            resultSetConcurrency,
-            resultSetType,
-            closeOnCompletion);
-    return completions;
+    if (hostStatistics == null) {
+      return executeInternal(
+          message,
+          stmt,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+    }
+    long start = System.nanoTime();
+    hostStatistics.requestStarted();
+    try {
+      List<Completion> completions =
+          executeInternal(
+              message,
+              stmt,
+              fetchSize,
+              maxRows,
+              resultSetConcurrency,
+              resultSetType,
+              closeOnCompletion);
+      hostStatistics.recordLatency(System.nanoTime() - start);
+      return completions;
+    } finally {
+      hostStatistics.requestEnded();
+    }
   }
 
   private List<Completion> executeInternal(
@@ -796,6 +873,20 @@ public class StandardClient implements Client, AutoCloseable {
       int resultSetType,
       boolean closeOnCompletion)
       throws SQLException {
+    PendingQuery pending = queryListener == null ? null : pollPendingQuery(message);
+    if (pending != null) {
+      readMeteredResults(
+          pending,
+          stmt,
+          message,
+          completions,
+          fetchSize,
+          maxRows,
+          resultSetConcurrency,
+          resultSetType,
+          closeOnCompletion);
+      return;
+    }
     completions.add(
         readPacket(
             stmt,
@@ -819,6 +910,110 @@ public class StandardClient implements Client, AutoCloseable {
     }
   }
 
+  private void readMeteredResults(
+      PendingQuery pending,
+      com.singlestore.jdbc.Statement stmt,
+      ClientMessage message,
+      List<Completion> completions,
+      int fetchSize,
+      long maxRows,
+      int resultSetConcurrency,
+      int resultSetType,
+      boolean closeOnCompletion)
+      throws SQLException {
+    long received = meteredIn.count();
+    int initialSize = completions.size();
+    if (pending.firstByteNanos == 0) meteredIn.arm();
+    try {
+      do {
+        completions.add(
+            readPacket(
+                stmt,
+                message,
+                fetchSize,
+                maxRows,
+                resultSetConcurrency,
+                resultSetType,
+                closeOnCompletion));
+      } while ((context.getServerStatus() & ServerStatus.MORE_RESULTS_EXISTS) > 0);
+    } catch (SQLException e) {
+      if (pending.error == null) pending.error = e;
+      throw e;
+    } finally {
+      pending.bytesReceived += meteredIn.count() - received;
+      if (pending.firstByteNanos == 0) pending.firstByteNanos = meteredIn.firstReadNanos();
+      for (int i = initialSize; i < completions.size(); i++) {
+        Completion completion = completions.get(i);
+        if (completion instanceof Result) {
+          pending.rows += ((Result) completion).loadedRows();
+        } else if (completion instanceof OkPacket) {
+          pending.rows += ((OkPacket) completion).getAffectedRows();
+        }
+      }
+      if (--pending.remainingResponses <= 0) {
+        pendingQueries.remove(pending);
+        fireQueryCompleted(pending);
+      }
+    }
+  }
+
+  /**
+   * Get measures of the command whose responses are about to be read. Responses are read in send
+   * order, so commands sent before, whose responses were consumed otherwise, are discarded.
+   *
+   * @param message command
+   * @return command measures, or null if not measured (streaming result-set continuation)
+   */
+  private PendingQuery pollPendingQuery(ClientMessage message) {
+    Iterator<PendingQuery> iterator = pendingQueries.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().message == message) {
+        PendingQuery pending;
+        while ((pending = pendingQueries.peek()).message != message) {
+          pendingQueries.poll();
+        }
+        return pending;
+      }
+    }
+    return null;
+  }
+
+  private void fireQueryCompleted(PendingQuery pending) {
+    long now = System.nanoTime();
+    try {
+      queryListener.queryCompleted(
+          new QueryEvent(
+              hostAddress,
+              pending.message.description(),
+              pending.bytesSent,
+              pending.bytesReceived,
+              pending.rows,
+              pending.firstByteNanos == 0 ? -1 : pending.firstByteNanos - pending.startNanos,
+              now - pending.startNanos,
+              pending.error));
+    } catch (RuntimeException e) {
+      Loggers.getLogger(StandardClient.class).debug("query listener error", e);
+    }
+  }
+
+  /** Measures of a command sent, whose responses are not read yet. */
+  private static final class PendingQuery {
+    private final ClientMessage message;
+    private final long startNanos;
+    private long bytesSent;
+    private long bytesReceived;
+    private long rows;
+    private long firstByteNanos;
+    private int remainingResponses;
+    private SQLException error;
+
+    private PendingQuery(ClientMessage message, long startNanos, long bytesSent) {
+      this.message = message;
+      this.startNanos = startNanos;
+      this.bytesSent = bytesSent;
+    }
+  }
+
   /**
    * Read a MySQL packet from socket
    *
@@ -15,6 +15,9 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
   public byte[] buf;
   public int pos;
 
+  /** position of the first byte of the current packet, when stored in a shared array */
+  public int offset;
+
   public StandardReadableByteBuf(byte[] buf, int limit) {
     this.pos = 0;
     this.buf = buf;
@@ -51,6 +54,21 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
     this.buf = buf;
     this.limit = limit;
     this.pos = pos;
+    this.offset = 0;
+  }
+
+  /**
+   * Set buffer to a packet stored in a shared array.
+   *
+   * @param buf shared array
+   * @param offset packet first byte position
+   * @param length packet length
+   */
+  public void slice(byte[] buf, int offset, int length) {
+    this.buf = buf;
+    this.limit = offset + length;
+    this.pos = offset;
+    this.offset = offset;
   }
 
   @Override
@@ -9,12 +9,14 @@ import com.singlestore.jdbc.Statement;
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.util.ClosableLock;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /** Result-set that will retrieve all rows immediately before returning the result-set. */
@@ -23,6 +25,11 @@ public class CompleteResult extends Result {
   /** before first row position = initial position */
   protected static final int BEFORE_FIRST_POS = -1;
 
+  private static final int MAX_PACKET_SIZE = 0xffffff;
+
+  /** rows stored in shared chunks, null when using one array per row */
+  private RowChunks chunks;
+
   /**
    * Constructor from exchanges
    *
@@ -38,7 +45,6 @@ public class CompleteResult extends Result {
    * @throws IOException if Socket error occurs
    * @throws SQLException for all other kind of errors
    */
-  @SuppressWarnings({"this-escape"})
   public CompleteResult(
       Statement stmt,
       boolean binaryProtocol,
@@ -50,6 +56,48 @@ public class CompleteResult extends Result {
       boolean closeOnCompletion,
       boolean traceEnable)
       throws IOException, SQLException {
+    this(
+        stmt,
+        binaryProtocol,
+        maxRows,
+        metadataList,
+        reader,
+        context,
+        resultSetType,
+        closeOnCompletion,
+        traceEnable,
+        0);
+  }
+
+  /**
+   * Constructor from exchanges, permitting to store rows in shared chunks
+   *
+   * @param stmt current statement
+   * @param binaryProtocol does exchanges uses binary protocol
+   * @param maxRows maximum number of rows
+   * @param metadataList metadata
+   * @param reader packet reader
+   * @param context connection context
+   * @param resultSetType result set type
+   * @param closeOnCompletion close statement on completion
+   * @param traceEnable network trace exchange possible
+   * @param chunkSize size of chunks storing rows, 0 to store each row in its own array
+   * @throws IOException if Socket error occurs
+   * @throws SQLException for all other kind of errors
+   */
+  @SuppressWarnings({"this-escape"})
+  public CompleteResult(
+      Statement stmt,
+      boolean binaryProtocol,
+      long maxRows,
+      ColumnDecoder[] metadataList,
+      com.singlestore.jdbc.client.socket.Reader reader,
+      Context context,
+      int resultSetType,
+      boolean closeOnCompletion,
+      boolean traceEnable,
+      int chunkSize)
+      throws IOException, SQLException {
 
     super(
         stmt,
@@ -63,6 +111,11 @@ public class CompleteResult extends Result {
         traceEnable,
         false,
         0);
+    if (chunkSize > 0) {
+      this.chunks = new RowChunks(chunkSize);
+      readChunkedRows();
+      return;
+    }
     this.data = new byte[10][];
     if (maxRows > 0) {
       this.data = new byte[10][];
@@ -103,6 +156,89 @@ public class CompleteResult extends Result {
     super(metadataList, prev);
   }
 
+  /**
+   * Read all rows into shared chunks. Chunked mode always uses the buffered packet reader: packets
+   * fitting in read buffer are views on that buffer, copied once into chunk, and bigger packets are
+   * read into their own array, kept as is.
+   *
+   * @throws IOException if socket error occurs
+   * @throws SQLException for all other kind of errors
+   */
+  private void readChunkedRows() throws IOException, SQLException {
+    int readBufferSize = context.getConf().readBufferSize();
+    do {
+      ReadableByteBuf buf = reader.readReusablePacket(traceEnable);
+      int length = buf.readableBytes();
+      byte header = buf.getByte();
+      if (header == (byte) 0xFF
+          || (header == (byte) 0xFE
+              && (context.isEofDeprecated() ? length < MAX_PACKET_SIZE : length < 8))) {
+        // error or end of result-set
+        readNext(Arrays.copyOfRange(buf.buf(), buf.pos(), buf.pos() + length));
+      } else if (length == MAX_PACKET_SIZE) {
+        chunks.addDedicated(readMultiPacketRow(buf, readBufferSize));
+        dataSize++;
+      } else if (length > readBufferSize) {
+        chunks.addDedicated(buf.buf());
+        dataSize++;
+      } else {
+        chunks.add(buf.buf(), buf.pos(), length);
+        dataSize++;
+      }
+    } while (!this.loaded && (maxRows <= 0 || this.dataSize < maxRows));
+    if (!this.loaded) skipRemaining();
+  }
+
+  /**
+   * Read a row split in many 16Mb packets, assembled once all have been read.
+   *
+   * @param first first packet
+   * @param readBufferSize reader buffer size, bigger packets being read into their own array
+   * @return row data
+   * @throws IOException if socket error occurs
+   */
+  private byte[] readMultiPacketRow(ReadableByteBuf first, int readBufferSize)
+      throws IOException {
+    List<byte[]> parts = new ArrayList<>();
+    parts.add(packetContent(first, readBufferSize));
+    int totalLength = MAX_PACKET_SIZE;
+    int length;
+    do {
+      ReadableByteBuf buf = reader.readReusablePacket(traceEnable);
+      length = buf.readableBytes();
+      parts.add(packetContent(buf, readBufferSize));
+      totalLength += length;
+    } while (length == MAX_PACKET_SIZE);
+
+    byte[] row = new byte[totalLength];
+    int off = 0;
+    for (byte[] part : parts) {
+      System.arraycopy(part, 0, row, off, part.length);
+      off += part.length;
+    }
+    return row;
+  }
+
+  private static byte[] packetContent(ReadableByteBuf buf, int readBufferSize) {
+    int length = buf.readableBytes();
+    if (length > readBufferSize) return buf.buf();
+    return Arrays.copyOfRange(buf.buf(), buf.pos(), buf.pos() + length);
+  }
+
+  private void setRow(int idx) {
+    if (chunks == null) {
+      setRow(data[idx]);
+    } else {
+      chunks.setRow(rowBuf, idx);
+      fieldIndex.set(-1);
+    }
+  }
+
+  @Override
+  protected byte[] getCurrentRowData() {
+    return chunks == null ? super.getCurrentRowData() : chunks.row(0);
+  }
+
   /**
    * Specific constructor for internal build result-set, empty resultset, or generated key
    * result-set.
@@ -212,7 +348,7 @@ public class CompleteResult extends Result {
   @Override
   public boolean next() throws SQLException {
     if (rowPointer < dataSize - 1) {
-      setRow(data[++rowPointer]);
+      setRow(++rowPointer);
       return true;
     } else {
       // all data are reads and pointer is after last
@@ -284,7 +420,7 @@ public class CompleteResult extends Result {
       setNullRowBuf();
       return false;
     }
-    setRow(data[rowPointer]);
+    setRow(rowPointer);
     return true;
   }
 
@@ -296,7 +432,7 @@ public class CompleteResult extends Result {
       setNullRowBuf();
       return false;
     }
-    setRow(data[rowPointer]);
+    setRow(rowPointer);
     return true;
   }
 
@@ -317,13 +453,13 @@ public class CompleteResult extends Result {
 
     if (idx > 0) {
       rowPointer = idx - 1;
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     } else {
       if (dataSize + idx >= 0) {
         // absolute position reverse from ending resultSet
         rowPointer = dataSize + idx;
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
       rowPointer = BEFORE_FIRST_POS;
@@ -346,7 +482,7 @@ public class CompleteResult extends Result {
       return false;
     } else {
       rowPointer = newPos;
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     }
   }
@@ -357,7 +493,7 @@ public class CompleteResult extends Result {
     if (rowPointer > BEFORE_FIRST_POS) {
       rowPointer--;
       if (rowPointer != BEFORE_FIRST_POS) {
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
     }
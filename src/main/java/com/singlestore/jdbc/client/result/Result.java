@@ -37,7 +37,6 @@ public abstract class Result implements ResultSet, Completion {
   public static final int NULL_LENGTH = -1;
 
   private static final BinaryRowDecoder BINARY_ROW_DECODER = new BinaryRowDecoder();
-  private static final TextRowDecoder TEXT_ROW_DECODER = new TextRowDecoder();
 
   /** result-set type */
   protected final int resultSetType;
@@ -137,7 +136,7 @@ public abstract class Result implements ResultSet, Completion {
       rowDecoder = BINARY_ROW_DECODER;
       nullBitmap = new byte[(maxIndex + 9) / 8];
     } else {
-      rowDecoder = TEXT_ROW_DECODER;
+      rowDecoder = new TextRowDecoder();
       nullBitmap = null;
     }
   }
@@ -154,7 +153,8 @@ public abstract class Result implements ResultSet, Completion {
     this.resultSetType = prev.resultSetType;
     this.traceEnable = prev.traceEnable;
     this.forceAlias = true;
-    this.rowDecoder = prev.rowDecoder;
+    // text decoder keeps row state, so is not shared
+    this.rowDecoder = prev.nullBitmap == null ? new TextRowDecoder() : BINARY_ROW_DECODER;
     this.nullBitmap = prev.nullBitmap;
   }
 
@@ -179,7 +179,7 @@ public abstract class Result implements ResultSet, Completion {
     this.resultSetType = resultSetType;
     this.closeOnCompletion = false;
     this.traceEnable = false;
-    this.rowDecoder = TEXT_ROW_DECODER;
+    this.rowDecoder = new TextRowDecoder();
     this.nullBitmap = null;
     this.forceAlias = false;
   }
@@ -326,6 +326,15 @@ public abstract class Result implements ResultSet, Completion {
     return loaded;
   }
 
+  /**
+   * Number of rows currently read from server and kept in memory
+   *
+   * @return row number
+   */
+  public int loadedRows() {
+    return dataSize;
+  }
+
   /**
    * Close current result-set
    *
@@ -1651,11 +1660,10 @@ public abstract class Result implements ResultSet, Completion {
       return (T) rowDecoder.defaultDecode(conf, metadataList, fieldIndex, rowBuf, fieldLength);
     }
 
-    for (Codec<?> codec : conf.codecs()) {
-      if (codec.canDecode(column, type)) {
-        return rowDecoder.decode(
-            (Codec<T>) codec, calendar, rowBuf, fieldLength, metadataList, fieldIndex);
-      }
+    Codec<?> codec = conf.codecCache().decoder(column, type);
+    if (codec != null) {
+      return rowDecoder.decode(
+          (Codec<T>) codec, calendar, rowBuf, fieldLength, metadataList, fieldIndex);
     }
     rowBuf.skip(fieldLength.get());
     throw new SQLException(
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.result;
+
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import java.util.Arrays;
+
+/**
+ * Row storage appending rows in big shared arrays, with an offset index, instead of allocating one
+ * array per row. Rows bigger than chunk size get their own chunk.
+ */
+final class RowChunks {
+
+  private final int chunkSize;
+  private byte[][] chunks = new byte[4][];
+  private int chunkNumber = 0;
+  private int chunkPos;
+
+  private int[] rowChunk = new int[64];
+  private int[] rowOffset = new int[64];
+  private int[] rowLength = new int[64];
+  private int size = 0;
+
+  /**
+   * Constructor
+   *
+   * @param chunkSize chunk size in bytes
+   */
+  RowChunks(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Append a row, copying data.
+   *
+   * @param buf source array
+   * @param off row position in source array
+   * @param len row length
+   */
+  void add(byte[] buf, int off, int len) {
+    if (chunkNumber == 0 || chunks[chunkNumber - 1].length - chunkPos < len) {
+      newChunk(len);
+    }
+    System.arraycopy(buf, off, chunks[chunkNumber - 1], chunkPos, len);
+    index(chunkPos, len);
+    chunkPos += len;
+  }
+
+  /**
+   * Append a row without copying, array becoming a dedicated chunk.
+   *
+   * @param row row data
+   */
+  void addDedicated(byte[] row) {
+    if (chunkNumber == chunks.length) {
+      chunks = Arrays.copyOf(chunks, chunks.length << 1);
+    }
+    chunks[chunkNumber++] = row;
+    chunkPos = row.length;
+    index(0, row.length);
+  }
+
+  private void newChunk(int minLength) {
+    if (chunkNumber == chunks.length) {
+      chunks = Arrays.copyOf(chunks, chunks.length << 1);
+    }
+    chunks[chunkNumber++] = new byte[Math.max(chunkSize, minLength)];
+    chunkPos = 0;
+  }
+
+  private void index(int offset, int length) {
+    if (size == rowOffset.length) {
+      int newCapacity = size + (size >> 1);
+      rowChunk = Arrays.copyOf(rowChunk, newCapacity);
+      rowOffset = Arrays.copyOf(rowOffset, newCapacity);
+      rowLength = Arrays.copyOf(rowLength, newCapacity);
+    }
+    rowChunk[size] = chunkNumber - 1;
+    rowOffset[size] = offset;
+    rowLength[size++] = length;
+  }
+
+  /**
+   * Number of rows
+   *
+   * @return row number
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Point buffer to indicated row, without any copy.
+   *
+   * @param rowBuf row buffer
+   * @param idx row index
+   */
+  void setRow(StandardReadableByteBuf rowBuf, int idx) {
+    rowBuf.slice(chunks[rowChunk[idx]], rowOffset[idx], rowLength[idx]);
+  }
+
+  /**
+   * Copy of indicated row data.
+   *
+   * @param idx row index
+   * @return row data
+   */
+  byte[] row(int idx) {
+    int offset = rowOffset[idx];
+    return Arrays.copyOfRange(chunks[rowChunk[idx]], offset, offset + rowLength[idx]);
+  }
+}
@@ -9,8 +9,13 @@ import com.singlestore.jdbc.Statement;
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.util.ClosableLock;
+import com.singlestore.jdbc.client.util.SchedulerProvider;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class StreamingResult extends Result {
 
@@ -19,6 +24,12 @@ public class StreamingResult extends Result {
   private int dataFetchTime;
   private int requestedFetchSize;
 
+  /** maximum read-ahead size in bytes, 0 if disabled */
+  private final int prefetchSize;
+
+  /** next batch raw packets being read in background */
+  private Future<List<byte[]>> prefetch;
+
   /**
    * Constructor
    *
@@ -65,9 +76,10 @@ public class StreamingResult extends Result {
     this.lock = lock;
     this.dataFetchTime = 0;
     this.requestedFetchSize = fetchSize;
+    this.prefetchSize = context.getConf().streamingPrefetchSize();
     this.data = new byte[Math.min(MAX_FETCH_SIZE, Math.max(fetchSize, 10))][];
 
-    addStreamingValue();
+    addStreamingValue(true);
   }
 
   @Override
@@ -88,32 +100,119 @@ public class StreamingResult extends Result {
       dataSize = 0;
     }
 
-    addStreamingValue();
+    addStreamingValue(true);
   }
 
+  /**
+   * Read next fetch batch.
+   *
+   * @param readAhead start reading following batch in background when enabled
+   * @throws SQLException if any error occurs
+   */
   @SuppressWarnings("try")
-  private void addStreamingValue() throws SQLException {
+  private void addStreamingValue(boolean readAhead) throws SQLException {
     try (ClosableLock ignore = lock.closeableLock()) {
       // read only fetchSize values
-      int fetchSizeTmp =
-          (maxRows <= 0)
-              ? super.getFetchSize()
-              : Math.min(
-                  super.getFetchSize(),
-                  Math.max(0, (int) (maxRows - dataFetchTime * super.getFetchSize())));
-      do {
-        byte[] buf = reader.readPacket(traceEnable);
-        readNext(buf);
-        fetchSizeTmp--;
-      } while (fetchSizeTmp > 0 && !loaded);
+      int fetchSizeTmp = batchSize();
+      int prefetched = prefetch == null ? 0 : consumePrefetch();
+      fetchSizeTmp -= prefetched;
+      if (!loaded && (prefetched == 0 || fetchSizeTmp > 0)) {
+        do {
+          byte[] buf = reader.readPacket(traceEnable);
+          readNext(buf);
+          fetchSizeTmp--;
+        } while (fetchSizeTmp > 0 && !loaded);
+      }
       dataFetchTime++;
       if (maxRows > 0 && (long) dataFetchTime * super.getFetchSize() >= maxRows && !loaded)
         skipRemaining();
+      if (readAhead && prefetchSize > 0 && !loaded && super.getFetchSize() > 0) {
+        int rows = batchSize();
+        prefetch = SchedulerProvider.getPrefetchExecutor().submit(() -> prefetchRows(rows));
+      }
     } catch (IOException ioe) {
       throw exceptionFactory.create("Error while streaming resultSet data", "08000", ioe);
     }
   }
 
+  private int batchSize() throws SQLException {
+    return (maxRows <= 0)
+        ? super.getFetchSize()
+        : Math.min(
+            super.getFetchSize(),
+            Math.max(0, (int) (maxRows - dataFetchTime * super.getFetchSize())));
+  }
+
+  /**
+   * Background task: read raw packets of next batch, until batch size, prefetch size or end of
+   * result-set is reached. Packets are only interpreted when consumed.
+   *
+   * @param rows batch size
+   * @return raw packets
+   * @throws IOException if any socket error occurs
+   */
+  private List<byte[]> prefetchRows(int rows) throws IOException {
+    List<byte[]> packets = new ArrayList<>(Math.min(rows, MAX_FETCH_SIZE));
+    long size = 0;
+    do {
+      byte[] buf = reader.readPacket(traceEnable);
+      packets.add(buf);
+      if (buf[0] == (byte) 0xFF
+          || (buf[0] == (byte) 0xFE
+              && (context.isEofDeprecated() ? buf.length < 16777215 : buf.length < 8))) {
+        // error or end of result-set
+        break;
+      }
+      size += buf.length;
+    } while (packets.size() < rows && size < prefetchSize);
+    return packets;
+  }
+
+  /**
+   * Wait for background read to finish, then handle read packets as if just read.
+   *
+   * @return number of packets read
+   * @throws IOException if any socket error occurred during background read
+   * @throws SQLException for all other kind of errors
+   */
+  private int consumePrefetch() throws IOException, SQLException {
+    Future<List<byte[]>> pending = prefetch;
+    prefetch = null;
+    List<byte[]> packets = null;
+    boolean interrupted = false;
+    try {
+      // socket state depends on background read end, so waiting cannot be interrupted
+      while (packets == null) {
+        try {
+          packets = pending.get();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+          throw new IOException(e.getCause());
+        }
+      }
+    } finally {
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+    for (byte[] buf : packets) {
+      readNext(buf);
+    }
+    return packets.size();
+  }
+
+  @Override
+  protected void skipRemaining() throws SQLException, IOException {
+    if (prefetch != null) consumePrefetch();
+    if (!loaded) super.skipRemaining();
+  }
+
+  @Override
+  public void abort() {
+    prefetch = null;
+    super.abort();
+  }
+
   /**
    * When protocol has a current Streaming result (this) fetch all to permit another query is
    * executing.
@@ -123,7 +222,7 @@ public class StreamingResult extends Result {
   public void fetchRemaining() throws SQLException {
     if (!loaded) {
       while (!loaded) {
-        addStreamingValue();
+        addStreamingValue(false);
       }
       dataFetchTime++;
     }
@@ -206,7 +305,7 @@ public class StreamingResult extends Result {
     } else {
       // when streaming and not having read all results,
       // must read next packet to know if next packet is an EOF packet or some additional data
-      addStreamingValue();
+      addStreamingValue(false);
 
       if (loaded) {
         // now driver is sure when data ends.
@@ -332,7 +431,7 @@ public class StreamingResult extends Result {
         setNullRowBuf();
         return false;
       }
-      addStreamingValue();
+      addStreamingValue(false);
     }
 
     rowPointer = newPos;
@@ -374,7 +473,7 @@ public class StreamingResult extends Result {
     if (fetchSize == 0) {
       // fetch all results
       while (!this.loaded) {
-        addStreamingValue();
+        addStreamingValue(false);
       }
     }
   }
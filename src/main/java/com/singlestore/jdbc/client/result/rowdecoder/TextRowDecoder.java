@@ -18,9 +18,20 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 
-/** TEXT rows decoder */
+/**
+ * TEXT rows decoder.
+ *
+ * <p>Fields are read sequentially. When a field before the current one is requested, positions
+ * and lengths of all row fields are indexed in one pass, then used for any other access to the same
+ * row, so random column access does not rescan the row each time. Decoder has then a per-result
+ * state, and must not be shared between results.
+ */
 public class TextRowDecoder implements RowDecoder {
 
+  private int[] fieldPositions;
+  private int[] fieldLengths;
+  private boolean indexed;
+
   @Override
   public <T> T decode(
       Codec<T> codec,
@@ -164,18 +175,47 @@ public class TextRowDecoder implements RowDecoder {
       final StandardReadableByteBuf rowBuf,
       final byte[] nullBitmap,
       final ColumnDecoder[] metadataList) {
-    if (fieldIndex.get() >= newIndex) {
-      fieldIndex.set(0);
-      rowBuf.pos(0);
-    } else {
-      fieldIndex.incrementAndGet();
+    // field index is reset to -1 each time a new row is set
+    if (fieldIndex.get() == -1) {
+      indexed = false;
+    } else if (indexed || fieldIndex.get() >= newIndex) {
+      if (!indexed) indexRow(maxIndex, rowBuf);
+      fieldIndex.set(newIndex);
+      rowBuf.pos(fieldPositions[newIndex]);
+      return fieldLengths[newIndex];
     }
 
+    fieldIndex.incrementAndGet();
     while (fieldIndex.get() < newIndex) {
       rowBuf.skipLengthEncoded();
       fieldIndex.incrementAndGet();
     }
+    return readLength(rowBuf);
+  }
+
+  /**
+   * Index data position and length of all current row fields.
+   *
+   * @param maxIndex field number
+   * @param rowBuf row buffer
+   */
+  private void indexRow(int maxIndex, StandardReadableByteBuf rowBuf) {
+    if (fieldPositions == null || fieldPositions.length < maxIndex) {
+      fieldPositions = new int[maxIndex];
+      fieldLengths = new int[maxIndex];
+    }
+    rowBuf.pos(rowBuf.offset);
+    for (int i = 0; i < maxIndex; i++) {
+      // stop at row end, in case row has less fields than metadata
+      int len = rowBuf.readableBytes() > 0 ? readLength(rowBuf) : NULL_LENGTH;
+      fieldPositions[i] = rowBuf.pos;
+      fieldLengths[i] = len;
+      if (len != NULL_LENGTH) rowBuf.skip(len);
+    }
+    indexed = true;
+  }
 
+  private static int readLength(StandardReadableByteBuf rowBuf) {
     byte len = rowBuf.buf[rowBuf.pos++];
     switch (len) {
       case (byte) 251:
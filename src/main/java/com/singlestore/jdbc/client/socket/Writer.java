@@ -56,6 +56,13 @@ public interface Writer {
    */
   void setMaxAllowedPacket(int maxAllowedPacket);
 
+  /**
+   * Get max allowed packet size.
+   *
+   * @return max allowed packet size value, null if unknown
+   */
+  Integer getMaxAllowedPacket();
+
   /**
    * Write int value into buf. flush buf if too small.
    *
@@ -0,0 +1,271 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
+import com.singlestore.jdbc.client.ReadableByteBuf;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import com.singlestore.jdbc.client.socket.Reader;
+import com.singlestore.jdbc.client.util.MutableByte;
+import com.singlestore.jdbc.util.log.Logger;
+import com.singlestore.jdbc.util.log.LoggerHelper;
+import com.singlestore.jdbc.util.log.Loggers;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet reader parsing packets in place, in a large reusable buffer.
+ *
+ * <p>Socket is read by bulk, as many bytes as available, and reusable packets are views on that
+ * buffer: no copy at all is done for packets fitting in buffer, whatever their size. Packets that
+ * must be kept are copied once, directly from buffer; packets bigger than buffer are read directly
+ * into their own array. Views are only valid until next read.
+ */
+public class BufferedPacketReader implements Reader {
+
+  private static final int MAX_PACKET_SIZE = 0xffffff;
+  private final Logger logger;
+  private final byte[] header = new byte[4];
+  private final byte[] buf;
+  private final InputStream inputStream;
+  private final int maxQuerySizeToLog;
+
+  private final MutableByte sequence;
+  private final StandardReadableByteBuf readBuf = new StandardReadableByteBuf(null, 0);
+  private String serverThreadLog = "";
+
+  // position of first unread byte
+  private int pos;
+  // end of buffered bytes
+  private int end;
+
+  /**
+   * Constructor of buffered MySQL packet stream reader.
+   *
+   * @param in stream, not needing to be buffered
+   * @param conf connection options
+   * @param sequence current increment sequence
+   */
+  public BufferedPacketReader(InputStream in, Configuration conf, MutableByte sequence) {
+    this.inputStream = in;
+    this.buf = new byte[conf.readBufferSize()];
+    this.maxQuerySizeToLog = conf.maxQuerySizeToLog();
+    this.sequence = sequence;
+    this.logger = Loggers.getLogger(BufferedPacketReader.class);
+  }
+
+  public ReadableByteBuf readableBufFromArray(byte[] buf) {
+    readBuf.buf(buf, buf.length, 0);
+    return readBuf;
+  }
+
+  public ReadableByteBuf readReusablePacket() throws IOException {
+    return readReusablePacket(logger.isTraceEnabled());
+  }
+
+  @Override
+  public ReadableByteBuf readReusablePacket(boolean traceEnable) throws IOException {
+    int packetLength = readHeader();
+    sequence.set(header[3]);
+
+    if (packetLength <= buf.length) {
+      fill(packetLength);
+      readBuf.slice(buf, pos, packetLength);
+      pos += packetLength;
+    } else {
+      byte[] rawBytes = readContent(packetLength);
+      readBuf.buf(rawBytes, packetLength, 0);
+    }
+
+    if (traceEnable) {
+      logger.trace(
+          "read: {}\n{}",
+          serverThreadLog,
+          LoggerHelper.hex(
+              header, readBuf.buf(), readBuf.pos(), packetLength, maxQuerySizeToLog));
+    }
+    return readBuf;
+  }
+
+  /**
+   * Get next MySQL packet. If packet is more than 16M, read as many packet needed to finish reading
+   * MySQL packet. (first that has not length = 16Mb)
+   *
+   * @param traceEnable must trace packet.
+   * @return array packet.
+   * @throws IOException if socket exception occur.
+   */
+  public byte[] readPacket(boolean traceEnable) throws IOException {
+    int packetLength = readHeader();
+    byte[] rawBytes = readContent(packetLength);
+    if (traceEnable) {
+      logger.trace(
+          "read: {}\n{}",
+          serverThreadLog,
+          LoggerHelper.hex(header, rawBytes, 0, packetLength, maxQuerySizeToLog));
+    }
+
+    // ***************************************************
+    // In case content length is big, content will be separate in many 16Mb packets,
+    // assembled once all have been read
+    // ***************************************************
+    if (packetLength == MAX_PACKET_SIZE) {
+      List<byte[]> parts = new ArrayList<>();
+      parts.add(rawBytes);
+      int totalLength = packetLength;
+      do {
+        packetLength = readHeader();
+        byte[] part = readContent(packetLength);
+        if (traceEnable) {
+          logger.trace(
+              "read: {}\n{}",
+              serverThreadLog,
+              LoggerHelper.hex(header, part, 0, packetLength, maxQuerySizeToLog));
+        }
+        parts.add(part);
+        totalLength += packetLength;
+      } while (packetLength == MAX_PACKET_SIZE);
+
+      rawBytes = new byte[totalLength];
+      int off = 0;
+      for (byte[] part : parts) {
+        System.arraycopy(part, 0, rawBytes, off, part.length);
+        off += part.length;
+      }
+    }
+    return rawBytes;
+  }
+
+  @Override
+  public void skipPacket() throws IOException {
+    if (logger.isTraceEnabled()) {
+      readReusablePacket(true);
+      return;
+    }
+
+    int packetLength = readHeader();
+    skip(packetLength);
+
+    // ***************************************************
+    // In case content length is big, content will be separate in many 16Mb packets
+    // ***************************************************
+    while (packetLength == MAX_PACKET_SIZE) {
+      packetLength = readHeader();
+      skip(packetLength);
+    }
+  }
+
+  /**
+   * Read packet header.
+   *
+   * @return packet length
+   * @throws IOException if socket exception occur.
+   */
+  private int readHeader() throws IOException {
+    fill(4);
+    System.arraycopy(buf, pos, header, 0, 4);
+    pos += 4;
+    return (header[0] & 0xff) + ((header[1] & 0xff) << 8) + ((header[2] & 0xff) << 16);
+  }
+
+  /**
+   * Read packet content in a new array: buffered bytes are copied, remaining bytes are read
+   * directly into array if not fitting in buffer.
+   *
+   * @param length content length
+   * @return content
+   * @throws IOException if socket exception occur.
+   */
+  private byte[] readContent(int length) throws IOException {
+    byte[] rawBytes = new byte[length];
+    int off = Math.min(end - pos, length);
+    System.arraycopy(buf, pos, rawBytes, 0, off);
+    pos += off;
+    while (off < length) {
+      if (length - off < buf.length) {
+        fill(length - off);
+        System.arraycopy(buf, pos, rawBytes, off, length - off);
+        pos += length - off;
+        break;
+      }
+      int count = inputStream.read(rawBytes, off, length - off);
+      if (count < 0) {
+        throw new EOFException(
+            "unexpected end of stream, read "
+                + off
+                + " bytes from "
+                + length
+                + " (socket was closed by server)");
+      }
+      off += count;
+    }
+    return rawBytes;
+  }
+
+  private void skip(int length) throws IOException {
+    int remaining = length;
+    while (remaining > 0) {
+      if (pos == end) fill(1);
+      int count = Math.min(remaining, end - pos);
+      pos += count;
+      remaining -= count;
+    }
+  }
+
+  /**
+   * Ensure that at least length bytes are buffered, reading socket available data.
+   *
+   * @param length number of bytes needed, not more than buffer length
+   * @throws IOException if socket exception occur.
+   */
+  private void fill(int length) throws IOException {
+    if (end - pos >= length) return;
+    if (pos == end) {
+      pos = 0;
+      end = 0;
+    } else if (buf.length - pos < length) {
+      // not enough room left: move buffered bytes to buffer start
+      System.arraycopy(buf, pos, buf, 0, end - pos);
+      end -= pos;
+      pos = 0;
+    }
+    do {
+      int count = inputStream.read(buf, end, buf.length - end);
+      if (count < 0) {
+        throw new EOFException(
+            "unexpected end of stream, read "
+                + (end - pos)
+                + " bytes from "
+                + length
+                + " (socket was closed by server)");
+      }
+      end += count;
+    } while (end - pos < length);
+  }
+
+  @Override
+  public MutableByte getSequence() {
+    return sequence;
+  }
+
+  public void close() throws IOException {
+    inputStream.close();
+  }
+
+  /**
+   * Set server thread id.
+   *
+   * @param serverThreadId current server thread id.
+   * @param hostAddress host information
+   */
+  public void setServerThreadId(Long serverThreadId, HostAddress hostAddress) {
+    this.serverThreadLog = "conn=" + (serverThreadId == null ? "-1" : serverThreadId);
+  }
+}
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.MutableByte;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writer accumulating command content in memory, without packet headers, so command can be encoded
+ * with its exact size known before being sent using socket writer.
+ */
+public final class ChunkWriter extends PacketWriter {
+
+  private byte[] data = new byte[SMALL_BUFFER_SIZE];
+  private int length = 0;
+
+  /** Constructor */
+  public ChunkWriter() {
+    super(null, 0, null, new MutableByte(), new MutableByte());
+  }
+
+  @Override
+  protected void writeSocket(boolean commandEnd) {
+    int len = pos - 4;
+    if (len > 0) {
+      if (length + len > data.length) {
+        data = Arrays.copyOf(data, Math.max(length + len, data.length << 1));
+      }
+      System.arraycopy(buf, 4, data, length, len);
+      length += len;
+      pos = 4;
+    }
+  }
+
+  /**
+   * Current content size
+   *
+   * @return size in bytes
+   */
+  public int size() {
+    return length + pos - 4;
+  }
+
+  /**
+   * Discard content after indicated size.
+   *
+   * @param size size to keep
+   */
+  public void truncate(int size) {
+    if (size >= length) {
+      pos = 4 + size - length;
+    } else {
+      length = size;
+      pos = 4;
+    }
+  }
+
+  /**
+   * Copy part of content.
+   *
+   * @param from initial position, inclusive
+   * @param to final position, exclusive
+   * @return content copy
+   */
+  public byte[] copy(int from, int to) {
+    writeSocket(false);
+    return Arrays.copyOfRange(data, from, to);
+  }
+
+  /**
+   * Write content to another writer.
+   *
+   * @param writer destination writer
+   * @throws IOException if socket error occur
+   */
+  public void writeTo(Writer writer) throws IOException {
+    writeSocket(false);
+    writer.writeBytes(data, 0, length);
+  }
+
+  /** Empty content, keeping allocated memory. */
+  public void reset() {
+    length = 0;
+    pos = 4;
+  }
+}
@@ -15,12 +15,19 @@ import java.util.zip.Inflater;
 /**
  * Compression handler, permitting decompression of mysql packet if needed. When compression is set,
  * using a 7 byte header to identify is packet is compressed or not.
+ *
+ * <p>Inflater and buffers are reused for the whole connection life, buffers bigger than 1Mb being
+ * released after use.
  */
 public class CompressInputStream extends InputStream {
+  private static final int REUSABLE_BUFFER_LENGTH = 1024 * 1024;
   private final InputStream in;
   private final MutableByte sequence;
+  private final Inflater inflater = new Inflater();
 
   private final byte[] header = new byte[7];
+  private byte[] compressedBuf = new byte[8192];
+  private byte[] inflatedBuf = new byte[8192];
 
   private int end;
   private int pos;
@@ -131,7 +138,10 @@ public class CompressInputStream extends InputStream {
     int packetLength = (header[4] & 0xff) + ((header[5] & 0xff) << 8) + ((header[6] & 0xff) << 16);
     boolean compressed = (packetLength != 0);
     remaining = compressedPacketLength;
-    byte[] intermediaryBuf = new byte[remaining];
+    if (compressedBuf.length < remaining || compressedBuf.length > REUSABLE_BUFFER_LENGTH) {
+      compressedBuf = new byte[Math.max(remaining, 8192)];
+    }
+    byte[] intermediaryBuf = compressedBuf;
 
     // ***************************************************
     // Read content
@@ -153,11 +163,14 @@ public class CompressInputStream extends InputStream {
     } while (remaining > 0);
 
     if (compressed) {
-      buf = new byte[packetLength];
-      Inflater inflater = new Inflater();
-      inflater.setInput(intermediaryBuf);
+      if (inflatedBuf.length < packetLength || inflatedBuf.length > REUSABLE_BUFFER_LENGTH) {
+        inflatedBuf = new byte[Math.max(packetLength, 8192)];
+      }
+      buf = inflatedBuf;
+      inflater.reset();
+      inflater.setInput(intermediaryBuf, 0, compressedPacketLength);
       try {
-        int actualUncompressBytes = inflater.inflate(buf);
+        int actualUncompressBytes = inflater.inflate(buf, 0, packetLength);
         if (actualUncompressBytes != packetLength) {
           throw new IOException(
               "Invalid exception length after decompression "
@@ -167,8 +180,10 @@ public class CompressInputStream extends InputStream {
         }
       } catch (DataFormatException dfe) {
         throw new IOException(dfe);
+      } catch (NullPointerException npe) {
+        // inflater has been ended, connection being closed by another thread
+        throw new IOException("Stream closed", npe);
       }
-      inflater.end();
       end = packetLength;
     } else {
       buf = intermediaryBuf;
@@ -235,6 +250,7 @@ public class CompressInputStream extends InputStream {
    */
   @Override
   public void close() throws IOException {
+    inflater.end();
     in.close();
   }
 
@@ -6,22 +6,52 @@
 package com.singlestore.jdbc.client.socket.impl;
 
 import com.singlestore.jdbc.client.util.MutableByte;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Deflater;
 
+/**
+ * Compression handler, compressing packets using a deflater and a compressed data buffer reused for
+ * the whole connection life.
+ */
 public class CompressOutputStream extends OutputStream {
 
-  private static final int MIN_COMPRESSION_SIZE = 1536; // TCP-IP single packet
+  private static final int REUSABLE_BUFFER_LENGTH = 1024 * 1024;
   private final OutputStream out;
   private final MutableByte sequence;
+  private final int minCompressionSize;
+  private final Deflater deflater;
   private final byte[] header = new byte[7];
+  private byte[] compressBuf = new byte[8192];
   private byte[] longPacketBuffer = null;
 
+  /**
+   * Constructor
+   *
+   * @param out socket output stream
+   * @param compressionSequence compression sequence
+   */
   public CompressOutputStream(OutputStream out, MutableByte compressionSequence) {
+    this(out, compressionSequence, Deflater.DEFAULT_COMPRESSION, 1536);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param out socket output stream
+   * @param compressionSequence compression sequence
+   * @param compressionLevel deflate compression level
+   * @param minCompressionSize packet size below which packets are sent uncompressed
+   */
+  public CompressOutputStream(
+      OutputStream out,
+      MutableByte compressionSequence,
+      int compressionLevel,
+      int minCompressionSize) {
     this.out = out;
     this.sequence = compressionSequence;
+    this.minCompressionSize = minCompressionSize;
+    this.deflater = new Deflater(compressionLevel);
   }
 
   /**
@@ -49,15 +79,16 @@ public class CompressOutputStream extends OutputStream {
    */
   @Override
   public void write(byte[] b, int off, int len) throws IOException {
-    if (len + ((longPacketBuffer != null) ? longPacketBuffer.length : 0) < MIN_COMPRESSION_SIZE) {
+    int totalLen = len + ((longPacketBuffer != null) ? longPacketBuffer.length : 0);
+    if (totalLen < minCompressionSize && totalLen <= 0x00ffffff) {
       // *******************************************************************************
       // small packet, no compression
       // *******************************************************************************
 
       if (longPacketBuffer != null) {
-        header[0] = (byte) (len + longPacketBuffer.length);
-        header[1] = (byte) ((len + longPacketBuffer.length) >>> 8);
-        header[2] = 0;
+        header[0] = (byte) totalLen;
+        header[1] = (byte) (totalLen >>> 8);
+        header[2] = (byte) (totalLen >>> 16);
         header[3] = sequence.incrementAndGet();
         header[4] = 0;
         header[5] = 0;
@@ -71,7 +102,7 @@ public class CompressOutputStream extends OutputStream {
 
       header[0] = (byte) len;
       header[1] = (byte) (len >>> 8);
-      header[2] = 0;
+      header[2] = (byte) (len >>> 16);
       header[3] = sequence.incrementAndGet();
       header[4] = 0;
       header[5] = 0;
@@ -84,35 +115,49 @@ public class CompressOutputStream extends OutputStream {
       // compressing packet
       // *******************************************************************************
       int sent = 0;
-      try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-        try (DeflaterOutputStream deflater = new DeflaterOutputStream(baos)) {
-
-          /**
-           * For multi packet, len will be 0x00ffffff + 4 bytes for header. but compression can only
-           * compress up to 0x00ffffff bytes (header initial length size cannot be > 3 bytes) so,
-           * for this specific case, a buffer will be
-           */
-          if (longPacketBuffer != null) {
-            deflater.write(longPacketBuffer, 0, longPacketBuffer.length);
-            sent = longPacketBuffer.length;
-            longPacketBuffer = null;
-          }
-          if (len + sent > 0x00ffffff) {
-            int remaining = len + sent - 0x00ffffff;
-            longPacketBuffer = new byte[remaining];
-            System.arraycopy(b, off + 0x00ffffff - sent, longPacketBuffer, 0, remaining);
-          }
-
-          int bufLenSent = Math.min(0x00ffffff - sent, len);
-          deflater.write(b, off, bufLenSent);
-          sent += bufLenSent;
-          deflater.finish();
+      int compressLen = 0;
+      deflater.reset();
+
+      /*
+       * For multi packet, len will be 0x00ffffff + 4 bytes for header. but compression can only
+       * compress up to 0x00ffffff bytes (header initial length size cannot be > 3 bytes) so,
+       * for this specific case, a buffer will be
+       */
+      byte[] previousBuffer = longPacketBuffer;
+      if (previousBuffer != null) {
+        deflater.setInput(previousBuffer, 0, previousBuffer.length);
+        while (!deflater.needsInput()) {
+          compressLen = deflate(compressLen);
         }
+        sent = previousBuffer.length;
+        longPacketBuffer = null;
+      }
+      if (len + sent > 0x00ffffff) {
+        int remaining = len + sent - 0x00ffffff;
+        longPacketBuffer = new byte[remaining];
+        System.arraycopy(b, off + 0x00ffffff - sent, longPacketBuffer, 0, remaining);
+      }
 
-        byte[] compressedBytes = baos.toByteArray();
-
-        int compressLen = compressedBytes.length;
+      int bufLenSent = Math.min(0x00ffffff - sent, len);
+      deflater.setInput(b, off, bufLenSent);
+      deflater.finish();
+      while (!deflater.finished()) {
+        compressLen = deflate(compressLen);
+      }
+      sent += bufLenSent;
 
+      if (previousBuffer == null && compressLen >= sent) {
+        // data doesn't compress, send it as is
+        header[0] = (byte) sent;
+        header[1] = (byte) (sent >>> 8);
+        header[2] = (byte) (sent >>> 16);
+        header[3] = sequence.incrementAndGet();
+        header[4] = 0;
+        header[5] = 0;
+        header[6] = 0;
+        out.write(header, 0, 7);
+        out.write(b, off, sent);
+      } else {
         header[0] = (byte) compressLen;
         header[1] = (byte) (compressLen >>> 8);
         header[2] = (byte) (compressLen >>> 16);
@@ -122,8 +167,28 @@ public class CompressOutputStream extends OutputStream {
         header[6] = (byte) (sent >>> 16);
 
         out.write(header, 0, 7);
-        out.write(compressedBytes, 0, compressLen);
+        out.write(compressBuf, 0, compressLen);
       }
+
+      // avoid retaining big buffers
+      if (compressBuf.length > REUSABLE_BUFFER_LENGTH) {
+        compressBuf = new byte[8192];
+      }
+    }
+  }
+
+  private int deflate(int compressLen) throws IOException {
+    if (compressLen == compressBuf.length) {
+      byte[] newBuf = new byte[compressBuf.length << 1];
+      System.arraycopy(compressBuf, 0, newBuf, 0, compressLen);
+      compressBuf = newBuf;
+    }
+    try {
+      return compressLen
+          + deflater.deflate(compressBuf, compressLen, compressBuf.length - compressLen);
+    } catch (NullPointerException npe) {
+      // deflater has been ended, connection being closed by another thread
+      throw new IOException("Stream closed", npe);
     }
   }
 
@@ -164,6 +229,7 @@ public class CompressOutputStream extends OutputStream {
    */
   @Override
   public void close() throws IOException {
+    deflater.end();
     out.close();
   }
 
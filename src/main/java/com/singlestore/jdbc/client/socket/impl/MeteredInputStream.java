@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream counting bytes read, and recording when data is first read after being armed. Only
+ * used when a query listener is configured.
+ */
+public class MeteredInputStream extends FilterInputStream {
+
+  private long count;
+  private boolean armed;
+  private long firstReadNanos;
+
+  /**
+   * Constructor
+   *
+   * @param in underlying stream
+   */
+  public MeteredInputStream(InputStream in) {
+    super(in);
+  }
+
+  /**
+   * Number of bytes read since creation.
+   *
+   * @return byte count
+   */
+  public long count() {
+    return count;
+  }
+
+  /** Record next read time. */
+  public void arm() {
+    armed = true;
+    firstReadNanos = 0;
+  }
+
+  /**
+   * Time of first read since last {@link #arm()}.
+   *
+   * @return read time (nano), or 0 if nothing has been read
+   */
+  public long firstReadNanos() {
+    return firstReadNanos;
+  }
+
+  private void recordRead(long n) {
+    if (n > 0) {
+      count += n;
+      if (armed) {
+        firstReadNanos = System.nanoTime();
+        armed = false;
+      }
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = in.read();
+    if (b >= 0) recordRead(1);
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = in.read(b, off, len);
+    recordRead(n);
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = in.skip(n);
+    recordRead(skipped);
+    return skipped;
+  }
+}
@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Output stream counting bytes written. Only used when a query listener is configured. */
+public class MeteredOutputStream extends FilterOutputStream {
+
+  private long count;
+
+  /**
+   * Constructor
+   *
+   * @param out underlying stream
+   */
+  public MeteredOutputStream(OutputStream out) {
+    super(out);
+  }
+
+  /**
+   * Number of bytes written since creation.
+   *
+   * @return byte count
+   */
+  public long count() {
+    return count;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    count++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    count += len;
+  }
+}
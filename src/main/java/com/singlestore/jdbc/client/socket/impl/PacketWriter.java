@@ -32,6 +32,9 @@ public class PacketWriter implements Writer {
   private static final int MEDIUM_BUFFER_SIZE = 128 * 1024;
   private static final int LARGE_BUFFER_SIZE = 1024 * 1024;
   private static final int MAX_PACKET_LENGTH = 0x00ffffff + 4;
+  private static final int MAX_PAYLOAD_LENGTH = 0x00ffffff;
+  // byte arrays at least this long are sent without being copied to buf
+  private static final int DIRECT_WRITE_MIN_LENGTH = MEDIUM_BUFFER_SIZE;
   private final int maxQuerySizeToLog;
   private final OutputStream out;
   private final Integer maxPacketLength = MAX_PACKET_LENGTH;
@@ -42,6 +45,12 @@ public class PacketWriter implements Writer {
   private int mark = -1;
   private boolean bufContainDataAfterMark = false;
 
+  // byte array part belonging to current packet at buf position pendingPos, not copied to buf
+  private byte[] pendingArr;
+  private int pendingOff;
+  private int pendingLen;
+  private int pendingPos;
+
   /** internal buffer */
   protected byte[] buf;
   /** buffer position */
@@ -94,6 +103,7 @@ public class PacketWriter implements Writer {
    */
   @Override
   public void pos(int pos) throws IOException {
+    if (pendingLen > 0 && pos <= pendingPos) clearPending();
     if (pos > buf.length) growBuffer(pos);
     this.pos = pos;
   }
@@ -154,6 +164,11 @@ public class PacketWriter implements Writer {
     logger.debug("use maxAllowedPacket = {}", this.maxAllowedPacket);
   }
 
+  @Override
+  public Integer getMaxAllowedPacket() {
+    return maxAllowedPacket;
+  }
+
   /**
    * Write int value into buf. flush buf if too small.
    *
@@ -237,6 +252,10 @@ public class PacketWriter implements Writer {
    * @throws IOException if socket error occur
    */
   public void writeBytes(byte[] arr, int off, int len) throws IOException {
+    if (len >= DIRECT_WRITE_MIN_LENGTH && canWriteDirect()) {
+      writeBytesDirect(arr, off, len);
+      return;
+    }
     if (len > buf.length - pos) {
       if (buf.length != maxPacketLength) {
         growBuffer(len);
@@ -277,6 +296,75 @@ public class PacketWriter implements Writer {
     pos += len;
   }
 
+  private boolean canWriteDirect() {
+    return out != null && pendingLen == 0 && mark == -1 && !bufContainDataAfterMark;
+  }
+
+  /**
+   * Write a big byte array without copying it to buf. Full packets are sent immediately, with
+   * buffered data, then array last part is only referenced, to be sent when current packet is
+   * complete. Array must then not be modified before command is sent.
+   *
+   * @param arr byte array
+   * @param off offset
+   * @param len byte length to write
+   * @throws IOException if socket error occur
+   */
+  private void writeBytesDirect(byte[] arr, int off, int len) throws IOException {
+    while (pos - 4 + len > MAX_PAYLOAD_LENGTH) {
+      int partLen = maxPacketLength - pos;
+      writePacket(MAX_PAYLOAD_LENGTH, pos, arr, off, partLen, pos);
+      off += partLen;
+      len -= partLen;
+      pos = 4;
+    }
+    if (len < DIRECT_WRITE_MIN_LENGTH) {
+      writeBytes(arr, off, len);
+      return;
+    }
+    pendingArr = arr;
+    pendingOff = off;
+    pendingLen = len;
+    pendingPos = pos;
+  }
+
+  /**
+   * Send a packet made of buf content, with a byte array part inserted at indicated position.
+   *
+   * @param packetLength packet length
+   * @param at buf position where array part is inserted
+   * @param arr byte array
+   * @param off array part offset
+   * @param len array part length
+   * @param end buf content end
+   * @throws IOException if socket error occur
+   */
+  private void writePacket(int packetLength, int at, byte[] arr, int off, int len, int end)
+      throws IOException {
+    checkMaxAllowedLength(packetLength);
+    buf[0] = (byte) packetLength;
+    buf[1] = (byte) (packetLength >>> 8);
+    buf[2] = (byte) (packetLength >>> 16);
+    buf[3] = this.sequence.incrementAndGet();
+    out.write(buf, 0, at);
+    out.write(arr, off, len);
+    if (end > at) out.write(buf, at, end - at);
+    cmdLength += packetLength;
+
+    if (logger.isTraceEnabled()) {
+      logger.trace(
+          "send: content length={} {} including {} bytes sent without copy",
+          packetLength,
+          serverThreadLog,
+          len);
+    }
+  }
+
+  private void clearPending() {
+    pendingArr = null;
+    pendingLen = 0;
+  }
+
   /**
    * Write field length into buf, flush socket if needed.
    *
@@ -701,7 +789,10 @@ public class PacketWriter implements Writer {
 
   @Override
   public void flushPipeline() throws IOException {
-    writeSocket(false);
+    // a packet with a not copied array part may leave data in buf
+    do {
+      writeSocket(false);
+    } while (pos > 4);
 
     // if buf is big, and last query doesn't use at least half of it, resize buf to default
     // value
@@ -756,6 +847,16 @@ public class PacketWriter implements Writer {
   }
 
   public void mark() {
+    if (pendingLen > 0) {
+      // copy array part to buf, marked data must be in buf
+      byte[] newBuf = new byte[Math.max(buf.length, pos + pendingLen)];
+      System.arraycopy(buf, 0, newBuf, 0, pendingPos);
+      System.arraycopy(pendingArr, pendingOff, newBuf, pendingPos, pendingLen);
+      System.arraycopy(buf, pendingPos, newBuf, pendingPos + pendingLen, pos - pendingPos);
+      buf = newBuf;
+      pos += pendingLen;
+      clearPending();
+    }
     mark = pos;
   }
 
@@ -808,6 +909,7 @@ public class PacketWriter implements Writer {
   }
 
   public void initPacket() {
+    clearPending();
     sequence.set((byte) -1);
     compressSequence.set((byte) -1);
     pos = 4;
@@ -821,6 +923,10 @@ public class PacketWriter implements Writer {
    * @throws IOException id connection error occur.
    */
   protected void writeSocket(boolean commandEnd) throws IOException {
+    if (pendingLen > 0) {
+      writeSocketWithPending(commandEnd);
+      return;
+    }
     if (pos > 4) {
       buf[0] = (byte) (pos - 4);
       buf[1] = (byte) ((pos - 4) >>> 8);
@@ -849,6 +955,39 @@ public class PacketWriter implements Writer {
     }
   }
 
+  /**
+   * Flush the internal buf, with not copied byte array part. If whole content doesn't fit in a
+   * packet, a full packet is sent and buf keeps remaining data.
+   *
+   * @param commandEnd command end
+   * @throws IOException id connection error occur.
+   */
+  private void writeSocketWithPending(boolean commandEnd) throws IOException {
+    int packetLength = pos - 4 + pendingLen;
+    byte[] arr = pendingArr;
+    int off = pendingOff;
+    int len = pendingLen;
+    int at = pendingPos;
+    clearPending();
+
+    if (packetLength <= MAX_PAYLOAD_LENGTH) {
+      writePacket(packetLength, at, arr, off, len, pos);
+      if (commandEnd) out.flush();
+      pos = 4;
+      // if last com fill the max size, must send an empty com to indicate command end.
+      if (commandEnd && packetLength == MAX_PAYLOAD_LENGTH) {
+        writeEmptyPacket();
+      }
+      return;
+    }
+
+    int cut = maxPacketLength - len;
+    writePacket(MAX_PAYLOAD_LENGTH, at, arr, off, len, cut);
+    System.arraycopy(buf, cut, buf, 4, pos - cut);
+    pos = 4 + pos - cut;
+    if (commandEnd || pos >= maxPacketLength) writeSocket(commandEnd);
+  }
+
   public void close() throws IOException {
     out.close();
   }
@@ -80,6 +80,13 @@ public interface Parameter {
    */
   boolean isNull();
 
+  /**
+   * Is parameter value read from a stream, and so can be encoded only once
+   *
+   * @return is value read from a stream
+   */
+  boolean isStream();
+
   /**
    * Methods to return parameter as string if possible (Streaming parameter will return null)
    *
@@ -4,8 +4,13 @@
 // Copyright (c) 2021-2025 SingleStore, Inc.
 package com.singlestore.jdbc.client.util;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public final class SchedulerProvider {
   private static ScheduledThreadPoolExecutor timeoutScheduler;
@@ -30,4 +35,99 @@ public final class SchedulerProvider {
     }
     return timeoutScheduler;
   }
+
+  /**
+   * Executor reading ahead streaming result-set rows.
+   *
+   * @return prefetch executor
+   */
+  public static ExecutorService getPrefetchExecutor() {
+    return PrefetchHolder.EXECUTOR;
+  }
+
+  /**
+   * Executor sending batch packets while results are read.
+   *
+   * @return batch send executor
+   */
+  public static ExecutorService getBatchSendExecutor() {
+    return BatchSendHolder.EXECUTOR;
+  }
+
+  /**
+   * Executor connecting to hosts in parallel.
+   *
+   * @return connect executor
+   */
+  public static ExecutorService getConnectExecutor() {
+    return ConnectHolder.EXECUTOR;
+  }
+
+  /**
+   * Scheduler probing unreachable hosts.
+   *
+   * @return health check scheduler
+   */
+  public static ScheduledThreadPoolExecutor getHealthCheckScheduler() {
+    return HealthCheckHolder.SCHEDULER;
+  }
+
+  /**
+   * Scheduler refreshing discovered aggregators.
+   *
+   * @return discovery scheduler
+   */
+  public static ScheduledThreadPoolExecutor getDiscoveryScheduler() {
+    return DiscoveryHolder.SCHEDULER;
+  }
+
+  /**
+   * Create an executor.
+   *
+   * @param name thread name
+   * @param threads number of threads of a scheduled executor, 0 for a cached executor creating
+   *     threads on demand
+   * @param daemon daemon threads
+   * @return executor, a {@link ScheduledThreadPoolExecutor} removing cancelled tasks when threads
+   *     is not 0
+   */
+  private static ThreadPoolExecutor newExecutor(String name, int threads, boolean daemon) {
+    ThreadFactory threadFactory =
+        runnable -> {
+          Thread result = Executors.defaultThreadFactory().newThread(runnable);
+          result.setName(name);
+          result.setDaemon(daemon);
+          return result;
+        };
+    if (threads == 0) {
+      return new ThreadPoolExecutor(
+          0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(threads, threadFactory);
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  // executors are created on first use, by class initialization
+  private static final class PrefetchHolder {
+    static final ExecutorService EXECUTOR = newExecutor("SingleStore-prefetch", 0, true);
+  }
+
+  private static final class BatchSendHolder {
+    static final ExecutorService EXECUTOR = newExecutor("SingleStore-batch-send", 0, true);
+  }
+
+  private static final class ConnectHolder {
+    static final ExecutorService EXECUTOR = newExecutor("SingleStore-connect", 0, true);
+  }
+
+  private static final class HealthCheckHolder {
+    static final ScheduledThreadPoolExecutor SCHEDULER =
+        (ScheduledThreadPoolExecutor) newExecutor("SingleStore-health-check", 2, true);
+  }
+
+  private static final class DiscoveryHolder {
+    static final ScheduledThreadPoolExecutor SCHEDULER =
+        (ScheduledThreadPoolExecutor) newExecutor("SingleStore-discovery", 1, true);
+  }
 }
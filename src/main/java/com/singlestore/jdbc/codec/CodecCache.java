@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.plugin.Codec;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Codec resolution cache. Codecs are tested in order, the first one able to decode a column data
+ * type to a java class (or able to encode a value class) being retained, so codec list is scanned
+ * only once for each combination.
+ *
+ * <p>Codec {@link Codec#canDecode} result must then only depend on column data type and class,
+ * and {@link Codec#canEncode} result only on value class.
+ */
+public final class CodecCache {
+
+  private static final int DATA_TYPE_NUMBER = DataType.values().length;
+
+  private final Codec<?>[] codecs;
+  private final ConcurrentHashMap<Class<?>, Codec<?>[]> decoders = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<?>, Codec<?>> encoders = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor
+   *
+   * @param codecs available codecs, by priority
+   */
+  public CodecCache(Codec<?>[] codecs) {
+    this.codecs = codecs;
+  }
+
+  /**
+   * Get first codec able to decode column to indicated class.
+   *
+   * @param column column
+   * @param type java return class
+   * @return codec, or null if none can decode it
+   */
+  public Codec<?> decoder(ColumnDecoder column, Class<?> type) {
+    Codec<?>[] byDataType = decoders.get(type);
+    if (byDataType == null) {
+      byDataType = decoders.computeIfAbsent(type, t -> new Codec<?>[DATA_TYPE_NUMBER]);
+    }
+    int idx = column.getType().ordinal();
+    Codec<?> codec = byDataType[idx];
+    if (codec == null) {
+      // concurrent resolution would only set the same codec
+      for (Codec<?> candidate : codecs) {
+        if (candidate.canDecode(column, type)) {
+          byDataType[idx] = candidate;
+          return candidate;
+        }
+      }
+    }
+    return codec;
+  }
+
+  /**
+   * Get first codec able to encode value.
+   *
+   * @param value non null value
+   * @return codec, or null if none can encode it
+   */
+  public Codec<?> encoder(Object value) {
+    Codec<?> codec = encoders.get(value.getClass());
+    if (codec == null) {
+      for (Codec<?> candidate : codecs) {
+        if (candidate.canEncode(value)) {
+          encoders.put(value.getClass(), candidate);
+          return candidate;
+        }
+      }
+    }
+    return codec;
+  }
+}
@@ -11,9 +11,13 @@ import com.singlestore.jdbc.client.socket.Writer;
 import com.singlestore.jdbc.client.socket.impl.PacketWriter;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.SQLException;
 
 public class Parameter<T> implements com.singlestore.jdbc.client.util.Parameter {
@@ -85,6 +89,14 @@ public class Parameter<T> implements com.singlestore.jdbc.client.util.Parameter
     return value == null;
   }
 
+  @Override
+  public boolean isStream() {
+    return value instanceof InputStream
+        || value instanceof Reader
+        || value instanceof Blob
+        || value instanceof Clob;
+  }
+
   @Override
   public String bestEffortStringValue(Context context) {
     if (isNull()) return "null";
@@ -6,10 +6,12 @@
 package com.singlestore.jdbc.export;
 
 import com.singlestore.jdbc.HostAddress;
+import com.singlestore.jdbc.client.impl.HostStatistics;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /** Failover (High-availability) mode */
 public enum HaMode {
@@ -31,6 +33,16 @@ public enum HaMode {
       return HaMode.getAvailableRoundRobinHost(this, hostAddresses, denyList);
     }
   },
+  /**
+   * latency-aware load-balance: driver will connect to the fastest of two random hosts, according
+   * to hosts average response time and number of requests waiting for response.
+   */
+  LATENCY("latency-load-balance") {
+    public Optional<HostAddress> getAvailableHost(
+        List<HostAddress> hostAddresses, ConcurrentMap<HostAddress, Long> denyList) {
+      return getLowerLatencyHost(hostAddresses, denyList);
+    }
+  },
   /** no ha-mode. Connect to first host only */
   NONE("") {
     public Optional<HostAddress> getAvailableHost(
@@ -122,6 +134,43 @@ public enum HaMode {
     return hostAddressWithLessConnections;
   }
 
+  /**
+   * Choose two random hosts not in blacklist, and return the one with lower expected response
+   * time (power of two choices), avoiding to send every new connection to the same host when
+   * statistics are not up to date. Hosts without known latency are preferred, so they get measured.
+   *
+   * @param hostAddresses hosts
+   * @param denyList blacklist
+   * @return chosen host
+   */
+  public static Optional<HostAddress> getLowerLatencyHost(
+      List<HostAddress> hostAddresses, ConcurrentMap<HostAddress, Long> denyList) {
+    List<HostAddress> candidates = new ArrayList<>(hostAddresses.size());
+    for (HostAddress hostAddress : hostAddresses) {
+      if (denyList.containsKey(hostAddress)) {
+        // take in account denied server that have reached denied timeout
+        if (denyList.get(hostAddress) > System.currentTimeMillis()) {
+          continue;
+        } else {
+          denyList.remove(hostAddress);
+        }
+      }
+      candidates.add(hostAddress);
+    }
+
+    if (candidates.size() < 2) {
+      return candidates.isEmpty() ? Optional.empty() : Optional.of(candidates.get(0));
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(candidates.size());
+    int second = random.nextInt(candidates.size() - 1);
+    if (second >= first) second++;
+    HostAddress firstHost = candidates.get(first);
+    HostAddress secondHost = candidates.get(second);
+    return Optional.of(
+        HostStatistics.load(secondHost) < HostStatistics.load(firstHost) ? secondHost : firstHost);
+  }
+
   /**
    * Get first available host in RoundRobin Order and not in blacklist.
    *
@@ -174,8 +174,15 @@ public interface ClientMessage {
         buf.skip(1); // skip header
         SQLException exception = null;
         reader.getSequence().set(writer.getSequence());
-        InputStream is = getLocalInfileInputStream();
-        if (is == null) {
+        boolean generated;
+        try {
+          generated = writeLocalInfile(writer, context);
+        } catch (SQLException e) {
+          generated = true;
+          exception = e;
+        }
+        InputStream is = generated ? null : getLocalInfileInputStream();
+        if (is == null && !generated) {
           String fileName = buf.readStringNullEnd();
           if (!message.validateLocalFileName(fileName, context)) {
             exception =
@@ -314,7 +321,8 @@ public interface ClientMessage {
               context,
               resultSetType,
               closeOnCompletion,
-              traceEnable);
+              traceEnable,
+              context.getConf().resultChunkSize());
         }
     }
   }
@@ -328,6 +336,21 @@ public interface ClientMessage {
     return null;
   }
 
+  /**
+   * Write generated local infile content, for messages producing content themselves instead of
+   * reading a file or an input stream.
+   *
+   * @param writer socket writer
+   * @param context current connection context
+   * @return true if content has been written, false if message doesn't generate content
+   * @throws IOException if socket error occur
+   * @throws SQLException if content cannot be generated
+   */
+  default boolean writeLocalInfile(Writer writer, Context context)
+      throws IOException, SQLException {
+    return false;
+  }
+
   /**
    * Request for local file to be validated from current query.
    *
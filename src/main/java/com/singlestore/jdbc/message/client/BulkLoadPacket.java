@@ -0,0 +1,177 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.message.client;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.message.ClientMessage;
+import com.singlestore.jdbc.plugin.Codec;
+import com.singlestore.jdbc.type.Vector;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * LOAD DATA LOCAL INFILE command, whose file content is generated from rows while streaming.
+ *
+ * <p>Rows are encoded as tab separated values, using codec text encoding. Content is sent by
+ * packets of 64kb, rows being pulled from iterator only when previous data has been written to
+ * socket, so memory use stays bounded whatever the number of rows.
+ */
+public final class BulkLoadPacket implements ClientMessage {
+
+  private static final String FILE_NAME = "singlestore_bulk_load.tsv";
+  private static final int FLUSH_SIZE = 64 * 1024;
+  private static final byte[] NULL_VALUE = {'\\', 'N'};
+
+  private final String sql;
+  private final Iterator<Object[]> rows;
+  private Codec<?>[] codecs;
+
+  /**
+   * Constructor
+   *
+   * @param table table name
+   * @param columns column names, or null for all table columns
+   * @param rows rows to load
+   */
+  public BulkLoadPacket(String table, String[] columns, Iterator<Object[]> rows) {
+    this.sql =
+        "LOAD DATA LOCAL INFILE '"
+            + FILE_NAME
+            + "' INTO TABLE "
+            + table
+            + " FIELDS TERMINATED BY '\\t' OPTIONALLY ENCLOSED BY '\\'' ESCAPED BY '\\\\'"
+            + " LINES TERMINATED BY '\\n'"
+            + (columns == null ? "" : " (" + String.join(",", columns) + ")");
+    this.rows = rows;
+    this.codecs = columns == null ? null : new Codec<?>[columns.length];
+  }
+
+  /**
+   * COM_QUERY packet
+   *
+   * <p>int[1] 0x03 : COM_QUERY header string[EOF] SQL statement
+   */
+  @Override
+  public int encode(Writer writer, Context context) throws IOException {
+    writer.initPacket();
+    writer.writeByte(0x03);
+    writer.writeString(this.sql);
+    writer.flush();
+    return 1;
+  }
+
+  @Override
+  public boolean writeLocalInfile(Writer writer, Context context)
+      throws IOException, SQLException {
+    try {
+      int rowNumber = 0;
+      while (rows.hasNext()) {
+        Object[] row = rows.next();
+        rowNumber++;
+        if (codecs == null && row != null) codecs = new Codec<?>[row.length];
+        if (row == null || row.length != codecs.length) {
+          throw new SQLException(
+              String.format(
+                  "Row %d has %d values, expected %d",
+                  rowNumber, row == null ? 0 : row.length, codecs == null ? 0 : codecs.length),
+              "22000");
+        }
+        for (int i = 0; i < row.length; i++) {
+          if (i > 0) writer.writeByte('\t');
+          writeValue(writer, context, row[i], i);
+        }
+        writer.writeByte('\n');
+        if (writer.pos() >= FLUSH_SIZE) writer.flushPipeline();
+      }
+      writer.flushPipeline();
+    } catch (SQLException e) {
+      // discard data not sent yet
+      writer.pos(4);
+      throw e;
+    } catch (RuntimeException e) {
+      // iterator or codec failure: content ends, so LOCAL INFILE exchange can be terminated
+      writer.pos(4);
+      throw new SQLException("Error generating bulk load content: " + e.getMessage(), "HY000", e);
+    }
+    return true;
+  }
+
+  private void writeValue(Writer writer, Context context, Object value, int index)
+      throws IOException, SQLException {
+    if (value == null) {
+      writer.writeBytes(NULL_VALUE);
+      return;
+    }
+
+    // binary values must not use the _binary prefix of text protocol
+    if (value instanceof byte[]) {
+      byte[] bytes = (byte[]) value;
+      writer.writeByte('\'');
+      writer.writeBytesEscaped(bytes, bytes.length);
+      writer.writeByte('\'');
+      return;
+    }
+    if (value instanceof Vector && ((Vector) value).isBinary()) {
+      writer.writeByte('\'');
+      ((Vector) value).writeValues(writer, Integer.MAX_VALUE, true);
+      writer.writeByte('\'');
+      return;
+    }
+    if (value instanceof Blob || value instanceof InputStream) {
+      InputStream is =
+          value instanceof Blob ? ((Blob) value).getBinaryStream() : (InputStream) value;
+      byte[] array = new byte[4096];
+      int len;
+      writer.writeByte('\'');
+      while ((len = read(is, array, index)) > 0) {
+        writer.writeBytesEscaped(array, len);
+      }
+      writer.writeByte('\'');
+      return;
+    }
+
+    // columns usually keep the same type: try last codec first
+    Codec<?> codec = codecs[index];
+    if (codec == null || !codec.canEncode(value)) {
+      codec = context.getConf().codecCache().encoder(value);
+      if (codec == null) {
+        throw new SQLException(
+            String.format("Type %s not supported type", value.getClass().getName()));
+      }
+      codecs[index] = codec;
+    }
+    codec.encodeText(writer, context, value, null, null);
+  }
+
+  /**
+   * Read value stream, stream failures being distinguished from socket failures.
+   *
+   * @param is value stream
+   * @param array destination array
+   * @param index column index
+   * @return number of bytes read, -1 at end of stream
+   * @throws SQLException if stream cannot be read
+   */
+  private static int read(InputStream is, byte[] array, int index) throws SQLException {
+    try {
+      return is.read(array);
+    } catch (IOException e) {
+      throw new SQLException(
+          String.format("Could not read stream value of column %d: %s", index + 1, e.getMessage()),
+          "HY000",
+          e);
+    }
+  }
+
+  @Override
+  public String description() {
+    return sql;
+  }
+}
@@ -81,7 +81,7 @@ public final class PreparePacket implements ClientMessage {
     if (context.getConf().useServerPrepStmts()
         && context.getConf().cachePrepStmts()
         && sql.length() < 8192) {
-      PrepareResultPacket prepare = new CachedPrepareResultPacket(buf, reader, context);
+      PrepareResultPacket prepare = new CachedPrepareResultPacket(buf, reader, context, sql);
       PrepareResultPacket previousCached =
           (PrepareResultPacket)
               context.putPrepareCacheCmd(
@@ -94,7 +94,7 @@ public final class PreparePacket implements ClientMessage {
       }
       return previousCached != null ? previousCached : prepare;
     }
-    PrepareResultPacket prepareResult = new PrepareResultPacket(buf, reader, context);
+    PrepareResultPacket prepareResult = new PrepareResultPacket(buf, reader, context, sql);
     if (stmt != null) {
       ((BasePreparedStatement) stmt).setPrepareResult(prepareResult);
     }
@@ -7,14 +7,18 @@ package com.singlestore.jdbc.message.client;
 import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.socket.impl.ChunkWriter;
 import com.singlestore.jdbc.client.util.Parameter;
 import com.singlestore.jdbc.client.util.Parameters;
+import com.singlestore.jdbc.client.util.SchedulerProvider;
 import com.singlestore.jdbc.util.RewriteClientParser;
 import com.singlestore.jdbc.util.log.Loggers;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Query with parameters packet used for insert batch with rewrite option {@link
@@ -59,6 +63,9 @@ public class RewriteQueryMultiPacket implements RedoableClientMessage {
 
   @Override
   public int encode(Writer encoder, Context context) throws IOException, SQLException {
+    if (config.rewriteBatchChunkSize() > 0) {
+      return encodeChunks(encoder, context);
+    }
     int packetsSize = 0;
     int currentIndex = 0;
     int totalParameterList = batchParameters.size();
@@ -169,6 +176,140 @@ public class RewriteQueryMultiPacket implements RedoableClientMessage {
     return batchIndex;
   }
 
+  /**
+   * Encode commands in memory, limited to rewriteBatchChunkSize using exact encoded size, each
+   * command being sent by a background task while next one is encoded.
+   *
+   * @param encoder socket writer
+   * @param context connection context
+   * @return number of commands sent
+   * @throws IOException if connection fail
+   * @throws SQLException if a parameter cannot be encoded
+   */
+  private int encodeChunks(Writer encoder, Context context) throws IOException, SQLException {
+    List<byte[]> queryParts = parser.getQueryParts();
+    boolean multiValues = parser.isQueryMultiValuesRewritable();
+    byte[] firstPart = queryParts.get(0);
+    byte[] lastPart = queryParts.get(paramCount + 2);
+    int suffixLength = multiValues ? lastPart.length : 0;
+    int maxSize = config.rewriteBatchChunkSize();
+    Integer maxAllowedPacket = encoder.getMaxAllowedPacket();
+    if (maxAllowedPacket != null) {
+      // command header byte is not part of chunk, and length must be < max_allowed_packet
+      maxSize = Math.min(maxSize, maxAllowedPacket - 2);
+    }
+
+    // double buffering: one chunk is encoded while the other one is sent
+    ChunkWriter[] chunks = new ChunkWriter[] {new ChunkWriter(), new ChunkWriter()};
+    Future<?> sending = null;
+    int commands = 0;
+    int batchIndex = 0;
+    byte[] pending = null;
+    try {
+      while (pending != null || batchIndex < batchParameters.size()) {
+        ChunkWriter chunk = chunks[commands % 2];
+        chunk.reset();
+        int units = 0;
+        if (multiValues) chunk.writeBytes(firstPart);
+        if (pending != null) {
+          chunk.writeBytes(pending);
+          pending = null;
+          units++;
+        }
+
+        while (batchIndex < batchParameters.size()
+            && (units == 0 || multiValues || config.allowMultiQueries())) {
+          int unitStart = chunk.size();
+          if (units > 0) chunk.writeByte(multiValues ? ',' : ';');
+          int dataStart = chunk.size();
+          writeUnit(chunk, context, batchParameters.get(batchIndex++), multiValues);
+          int unitEnd = chunk.size();
+          if (units > 0
+              && (unitEnd + suffixLength > maxSize
+                  || (multiValues && (units + 1) * paramCount >= MAX_PARAMETERS_SIZE))) {
+            // exact size exceeded: unit will begin next command
+            pending = chunk.copy(dataStart, unitEnd);
+            chunk.truncate(unitStart);
+            Loggers.getLogger(RewriteQueryMultiPacket.class)
+                .debug(
+                    "split rewrite batch command on {} batch with size {}",
+                    batchIndex - 1,
+                    unitStart + suffixLength);
+            break;
+          }
+          units++;
+        }
+        if (multiValues) chunk.writeBytes(lastPart);
+
+        waitSent(sending);
+        if (Thread.currentThread().isInterrupted()) {
+          throw new SQLException("Interrupted during batch", "70", -1);
+        }
+        sending =
+            SchedulerProvider.getBatchSendExecutor()
+                .submit(
+                    () -> {
+                      encoder.initPacket();
+                      encoder.writeByte(0x03);
+                      chunk.writeTo(encoder);
+                      encoder.flush();
+                      return null;
+                    });
+        commands++;
+      }
+      waitSent(sending);
+    } catch (IOException | SQLException | RuntimeException e) {
+      // socket writer must not be in use anymore when returning
+      try {
+        waitSent(sending);
+      } catch (IOException ioe) {
+        // eat
+      }
+      throw e;
+    }
+    return commands;
+  }
+
+  private void writeUnit(Writer chunk, Context context, Parameters parameters, boolean multiValues)
+      throws IOException, SQLException {
+    List<byte[]> queryParts = parser.getQueryParts();
+    if (!multiValues) chunk.writeBytes(queryParts.get(0));
+    chunk.writeBytes(queryParts.get(1));
+    for (int i = 0; i < paramCount; i++) {
+      parameters.get(i).encodeText(chunk, context);
+      chunk.writeBytes(queryParts.get(i + 2));
+    }
+    if (!multiValues) chunk.writeBytes(queryParts.get(paramCount + 2));
+  }
+
+  /**
+   * Wait for command sending to finish, whatever interruptions.
+   *
+   * @param sending sending task, may be null
+   * @throws IOException if sending failed
+   */
+  private static void waitSent(Future<?> sending) throws IOException {
+    if (sending == null) return;
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          sending.get();
+          return;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof IOException) throw (IOException) cause;
+          if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+          throw new IOException(cause);
+        }
+      }
+    } finally {
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+  }
+
   private int getApproximateParametersLength(Parameters parameters)
       throws IOException, SQLException {
     int parameterLength = 0;
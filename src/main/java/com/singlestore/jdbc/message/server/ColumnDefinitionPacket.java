@@ -11,6 +11,7 @@ import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.message.ServerMessage;
 import com.singlestore.jdbc.util.CharsetEncodingLength;
 import com.singlestore.jdbc.util.constants.ColumnFlags;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /** Column metadata definition */
@@ -23,6 +24,12 @@ public class ColumnDefinitionPacket implements Column, ServerMessage {
   protected final byte decimals;
   private final int flags;
   private final int[] stringPos;
+  // strings decoded on first use. Values being immutable, concurrent decoding is harmless
+  private String schema;
+  private String tableAlias;
+  private String table;
+  private String columnAlias;
+  private String columnName;
   protected final String extTypeName;
   protected final String extTypeFormat;
   /** configuration: use alias as name */
@@ -73,43 +80,88 @@ public class ColumnDefinitionPacket implements Column, ServerMessage {
     this.decimals = prev.decimals;
     this.flags = prev.flags;
     this.stringPos = prev.stringPos;
+    this.schema = prev.schema;
+    this.tableAlias = prev.tableAlias;
+    this.table = prev.table;
+    this.columnAlias = prev.columnAlias;
+    this.columnName = prev.columnName;
     this.extTypeName = prev.extTypeName;
     this.extTypeFormat = prev.extTypeFormat;
     this.useAliasAsName = useAliasAsName;
   }
 
+  /**
+   * Read length encoded string at position, without changing packet buffer position, since column
+   * metadata can be shared between connections.
+   *
+   * @param pos string position
+   * @return string value
+   */
+  private String readString(int pos) {
+    byte[] bytes = buf.buf();
+    int length = bytes[pos++] & 0xff;
+    switch (length) {
+      case 252:
+        length = (bytes[pos] & 0xff) + ((bytes[pos + 1] & 0xff) << 8);
+        pos += 2;
+        break;
+      case 253:
+        length =
+            (bytes[pos] & 0xff) + ((bytes[pos + 1] & 0xff) << 8) + ((bytes[pos + 2] & 0xff) << 16);
+        pos += 3;
+        break;
+      case 254:
+        length =
+            (bytes[pos] & 0xff)
+                + ((bytes[pos + 1] & 0xff) << 8)
+                + ((bytes[pos + 2] & 0xff) << 16)
+                + ((bytes[pos + 3] & 0xff) << 24);
+        pos += 8;
+        break;
+      default:
+        break;
+    }
+    return new String(bytes, pos, length, StandardCharsets.UTF_8);
+  }
+
   public String getCatalog() {
     return "def";
   }
 
   @Override
   public String getSchema() {
-    buf.pos(stringPos[0]);
-    return buf.readString(buf.readIntLengthEncodedNotNull());
+    String value = schema;
+    if (value == null) schema = value = readString(stringPos[0]);
+    return value;
   }
 
   @Override
   public String getTableAlias() {
-    buf.pos(stringPos[1]);
-    return buf.readString(buf.readIntLengthEncodedNotNull());
+    String value = tableAlias;
+    if (value == null) tableAlias = value = readString(stringPos[1]);
+    return value;
   }
 
   @Override
   public String getTable() {
-    buf.pos(stringPos[useAliasAsName ? 1 : 2]);
-    return buf.readString(buf.readIntLengthEncodedNotNull());
+    if (useAliasAsName) return getTableAlias();
+    String value = table;
+    if (value == null) table = value = readString(stringPos[2]);
+    return value;
   }
 
   @Override
   public String getColumnAlias() {
-    buf.pos(stringPos[3]);
-    return buf.readString(buf.readIntLengthEncodedNotNull());
+    String value = columnAlias;
+    if (value == null) columnAlias = value = readString(stringPos[3]);
+    return value;
   }
 
   @Override
   public String getColumnName() {
-    buf.pos(stringPos[4]);
-    return buf.readString(buf.readIntLengthEncodedNotNull());
+    String value = columnName;
+    if (value == null) columnName = value = readString(stringPos[4]);
+    return value;
   }
 
   @Override
@@ -5,12 +5,15 @@
 
 package com.singlestore.jdbc.message.server;
 
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.ServerPreparedStatement;
 import com.singlestore.jdbc.client.Client;
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.Completion;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.ReadableByteBuf;
+import com.singlestore.jdbc.client.impl.PrepareMetadataCache;
 import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Reader;
 import com.singlestore.jdbc.export.Prepare;
@@ -61,6 +64,9 @@ public class PrepareResultPacket implements Completion, Prepare {
   protected int statementId;
 
   private ColumnDecoder[] columns;
+  private PrepareMetadataCache sharedCache;
+  private HostAddress sharedHost;
+  private String sharedKey;
 
   /**
    * Prepare packet constructor (parsing)
@@ -72,6 +78,21 @@ public class PrepareResultPacket implements Completion, Prepare {
    */
   public PrepareResultPacket(ReadableByteBuf buffer, Reader reader, Context context)
       throws IOException {
+    this(buffer, reader, context, null);
+  }
+
+  /**
+   * Prepare packet constructor (parsing), using column metadata shared between connections to the
+   * same host when enabled.
+   *
+   * @param buffer packet buffer
+   * @param reader packet reader
+   * @param context connection context
+   * @param sql prepared command, null if unknown
+   * @throws IOException if socket exception occurs
+   */
+  public PrepareResultPacket(ReadableByteBuf buffer, Reader reader, Context context, String sql)
+      throws IOException {
     this.logger = Loggers.getLogger(PrepareResultPacket.class);
     boolean trace = logger.isTraceEnabled();
     buffer.readByte(); /* skip COM_STMT_PREPARE_OK */
@@ -93,11 +114,17 @@ public class PrepareResultPacket implements Completion, Prepare {
       }
     }
     if (numColumns > 0) {
-      for (int i = 0; i < numColumns; i++) {
-        columns[i] =
-            context
-                .getColumnDecoderFunction()
-                .apply(new StandardReadableByteBuf(reader.readPacket(trace)));
+      if (sql != null
+          && context.getConf().sharedPrepareMetadataSize() > 0
+          && context.getHostAddress() != null) {
+        readSharedColumns(reader, context, sql, trace);
+      } else {
+        for (int i = 0; i < numColumns; i++) {
+          columns[i] =
+              context
+                  .getColumnDecoderFunction()
+                  .apply(new StandardReadableByteBuf(reader.readPacket(trace)));
+        }
       }
       if (!context.isEofDeprecated()) {
         reader.skipPacket();
@@ -105,6 +132,60 @@ public class PrepareResultPacket implements Completion, Prepare {
     }
   }
 
+  /**
+   * Read column definitions, using shared column metadata when server sends the very same
+   * definitions. Definitions are compared in place in reader buffer, and only copied and decoded
+   * from first differing one.
+   *
+   * @param reader packet reader
+   * @param context connection context
+   * @param sql prepared command
+   * @param trace must trace packets
+   * @throws IOException if socket exception occurs
+   */
+  private void readSharedColumns(Reader reader, Context context, String sql, boolean trace)
+      throws IOException {
+    sharedCache = PrepareMetadataCache.forConfiguration(context.getConf());
+    sharedHost = context.getHostAddress();
+    sharedKey = sharedCacheKey(context, sql);
+    PrepareMetadataCache.Entry entry = sharedCache.get(sharedHost, sharedKey);
+    if (entry != null && entry.size() != columns.length) entry = null;
+
+    byte[][] definitions = new byte[columns.length][];
+    for (int i = 0; i < columns.length; i++) {
+      ReadableByteBuf packet = reader.readReusablePacket(trace);
+      if (entry != null) {
+        if (entry.matches(i, packet)) continue;
+        // previous definitions are identical to cached ones
+        entry.copyTo(definitions, columns, i);
+        entry = null;
+      }
+      byte[] definition = new byte[packet.readableBytes()];
+      System.arraycopy(packet.buf(), packet.pos(), definition, 0, definition.length);
+      definitions[i] = definition;
+      columns[i] =
+          context.getColumnDecoderFunction().apply(new StandardReadableByteBuf(definition));
+    }
+
+    if (entry != null) {
+      columns = sharedCache.hit(entry);
+    } else {
+      sharedCache.put(sharedHost, sharedKey, definitions, columns);
+    }
+  }
+
+  private static String sharedCacheKey(Context context, String sql) {
+    // column definitions depends on session extended types settings
+    Configuration conf = context.getConf();
+    return context.getDatabase()
+        + "|"
+        + conf.enableExtendedDataTypes()
+        + "|"
+        + conf.vectorTypeOutputFormat()
+        + "|"
+        + sql;
+  }
+
   /**
    * Close prepare packet
    *
@@ -145,6 +226,10 @@ public class PrepareResultPacket implements Completion, Prepare {
   }
 
   public void setColumns(ColumnDecoder[] columns) {
+    // server sent new metadata: shared metadata is outdated
+    if (sharedCache != null && columns != this.columns) {
+      sharedCache.invalidate(sharedHost, sharedKey, this.columns);
+    }
     this.columns = columns;
   }
 }
@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin;
+
+/**
+ * Pool events recorder. Methods are called on pool hot path, implementation must be thread-safe
+ * and not block. Durations are in nanoseconds.
+ */
+public interface PoolMetrics {
+
+  /** Recorder ignoring all events, used when no metrics plugin is configured. */
+  PoolMetrics NONE = new PoolMetrics() {};
+
+  /** Reason of a physical connection removal from pool. */
+  enum RemovalReason {
+    /** connection not used since maxIdleTime, pool having more than minPoolSize connections */
+    IDLE_TIMEOUT,
+    /** connection idle time is reaching server @@wait_timeout */
+    SERVER_TIMEOUT,
+    /** connection validation failed */
+    VALIDATION_FAILED,
+    /** connection reset failed when given back to pool */
+    RESET_FAILED,
+    /** connection thrown a connection exception */
+    CONNECTION_ERROR,
+    /** connection host was removed from discovered hosts, or has more than its share */
+    REBALANCED,
+    /** pool is closing */
+    POOL_CLOSED
+  }
+
+  /**
+   * A connection has been given to a borrower.
+   *
+   * @param waitNanos time borrower waited for the connection
+   */
+  default void connectionAcquired(long waitNanos) {}
+
+  /**
+   * No connection became available to a borrower within connectTimeout.
+   *
+   * @param waitNanos time borrower waited
+   */
+  default void connectionTimeout(long waitNanos) {}
+
+  /**
+   * A new physical connection has been established.
+   *
+   * @param creationNanos connection creation time
+   */
+  default void connectionCreated(long creationNanos) {}
+
+  /** Establishing a new physical connection failed. */
+  default void connectionCreationFailed() {}
+
+  /**
+   * A borrowed connection has been given back to pool.
+   *
+   * @param usageNanos time connection has been borrowed
+   */
+  default void connectionUsed(long usageNanos) {}
+
+  /**
+   * A connection given back to pool has been reset.
+   *
+   * @param resetNanos reset time
+   */
+  default void connectionReset(long resetNanos) {}
+
+  /**
+   * A physical connection has been removed from pool.
+   *
+   * @param reason removal reason
+   */
+  default void connectionRemoved(RemovalReason reason) {}
+
+  /** Pool is closed, recorder must release its resources. */
+  default void close() {}
+}
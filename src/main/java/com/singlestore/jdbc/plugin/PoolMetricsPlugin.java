@@ -0,0 +1,34 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin;
+
+import com.singlestore.jdbc.pool.PoolMBean;
+
+/**
+ * Pool metrics plugin, permitting to export pool measures to a monitoring system, without the
+ * driver depending on it.
+ *
+ * <p>Plugin is chosen with option `poolMetricsType`, and loaded with {@link
+ * java.util.ServiceLoader}.
+ */
+public interface PoolMetricsPlugin {
+
+  /**
+   * metrics plugin identifier
+   *
+   * @return type
+   */
+  String type();
+
+  /**
+   * Create metrics recorder of a pool. Called when pool is created, next to JMX registration.
+   *
+   * @param poolName pool name, unique for the JVM
+   * @param pool pool counters, permitting to register gauges
+   * @return pool metrics recorder
+   */
+  PoolMetrics create(String poolName, PoolMBean pool);
+}
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin;
+
+import com.singlestore.jdbc.HostAddress;
+import java.sql.SQLException;
+
+/** Measures of one command exchanged with server. Durations are in nanoseconds. */
+public final class QueryEvent {
+
+  private final HostAddress hostAddress;
+  private final String sql;
+  private final long bytesSent;
+  private final long bytesReceived;
+  private final long rows;
+  private final long timeToFirstByte;
+  private final long totalTime;
+  private final SQLException error;
+
+  /**
+   * Constructor
+   *
+   * @param hostAddress server address
+   * @param sql command description, generally SQL
+   * @param bytesSent number of bytes sent
+   * @param bytesReceived number of bytes received
+   * @param rows rows read or affected
+   * @param timeToFirstByte time from command send start to first response byte, -1 if unknown
+   * @param totalTime time from command send start to responses read
+   * @param error command error if any
+   */
+  public QueryEvent(
+      HostAddress hostAddress,
+      String sql,
+      long bytesSent,
+      long bytesReceived,
+      long rows,
+      long timeToFirstByte,
+      long totalTime,
+      SQLException error) {
+    this.hostAddress = hostAddress;
+    this.sql = sql;
+    this.bytesSent = bytesSent;
+    this.bytesReceived = bytesReceived;
+    this.rows = rows;
+    this.timeToFirstByte = timeToFirstByte;
+    this.totalTime = totalTime;
+    this.error = error;
+  }
+
+  public HostAddress getHostAddress() {
+    return hostAddress;
+  }
+
+  public String getSql() {
+    return sql;
+  }
+
+  public long getBytesSent() {
+    return bytesSent;
+  }
+
+  public long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  /**
+   * Rows read for result-sets (rows fetched so far when streaming), affected rows otherwise.
+   *
+   * @return row number
+   */
+  public long getRows() {
+    return rows;
+  }
+
+  public long getTimeToFirstByte() {
+    return timeToFirstByte;
+  }
+
+  public long getTotalTime() {
+    return totalTime;
+  }
+
+  public SQLException getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return "QueryEvent{sql='"
+        + sql
+        + "', bytesSent="
+        + bytesSent
+        + ", bytesReceived="
+        + bytesReceived
+        + ", rows="
+        + rows
+        + ", timeToFirstByte="
+        + timeToFirstByte
+        + ", totalTime="
+        + totalTime
+        + (error == null ? "" : ", error=" + error.getMessage())
+        + '}';
+  }
+}
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin;
+
+/**
+ * Query listener, notified of each command exchanged with server, permitting to trace statements
+ * or measure their latency.
+ *
+ * <p>Listener is chosen with option `queryListenerType`, and loaded with {@link
+ * java.util.ServiceLoader}. The same instance is shared by all connections: implementation must be
+ * thread-safe, and should return quickly, since it is called on query execution path. When no
+ * listener is configured, no measure is done at all.
+ */
+public interface QueryListener {
+
+  /**
+   * listener identifier
+   *
+   * @return type
+   */
+  String type();
+
+  /**
+   * Command responses have been read. For streaming result-sets, this is called once the first
+   * rows are fetched.
+   *
+   * @param event command measures
+   */
+  void queryCompleted(QueryEvent event);
+}
@@ -50,7 +50,10 @@ public class VectorCodec implements Codec<Vector> {
 
   @Override
   public int getApproximateTextProtocolLength(Object value) throws SQLException {
-    return canEncode(value) ? String.valueOf(value).length() * 3 : -1;
+    if (!canEncode(value)) return -1;
+    Vector vector = (Vector) value;
+    // binary data may be fully escaped
+    return vector.isBinary() ? vector.getValuesLength() * 2 + 10 : vector.getValuesLength() * 3;
   }
 
   @Override
@@ -85,11 +88,9 @@ public class VectorCodec implements Codec<Vector> {
     }
     Vector vector = (Vector) value;
     if (vector.isBinary()) {
-      byte[] b = vector.getValues();
-      int length = b.length;
       encoder.writeBytes(BINARY_PREFIX);
-      encoder.writeBytesEscaped(
-          b, maxLength == null ? length : Math.min(length, maxLength.intValue()));
+      vector.writeValues(
+          encoder, maxLength == null ? Integer.MAX_VALUE : maxLength.intValue(), true);
       encoder.writeByte('\'');
     } else {
       encoder.writeByte('\'');
@@ -106,10 +107,12 @@ public class VectorCodec implements Codec<Vector> {
           String.format("Data type %s cannot be encoded as Vector binary", value.getClass()));
     }
     Vector vector = (Vector) value;
-    byte[] b = vector.getValues();
-    int len = maxLength != null ? Math.min(maxLength.intValue(), b.length) : b.length;
+    int len =
+        maxLength != null
+            ? Math.min(maxLength.intValue(), vector.getValuesLength())
+            : vector.getValuesLength();
     encoder.writeLength(len);
-    encoder.writeBytes(b, 0, len);
+    vector.writeValues(encoder, len, false);
   }
 
   @Override
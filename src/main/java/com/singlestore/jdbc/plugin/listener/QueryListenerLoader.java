@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin.listener;
+
+import com.singlestore.jdbc.Driver;
+import com.singlestore.jdbc.plugin.QueryListener;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Provider of query listeners, permitting library users to add their own implementation. */
+public final class QueryListenerLoader {
+
+  private static final ServiceLoader<QueryListener> loader =
+      ServiceLoader.load(QueryListener.class, Driver.class.getClassLoader());
+
+  private static final Map<String, QueryListener> loadedPlugins = new ConcurrentHashMap<>();
+
+  /**
+   * Get query listener according to option `queryListenerType`.
+   *
+   * @param type query listener type
+   * @return query listener, or null if type is null
+   * @throws SQLException if no query listener with this type is in classpath
+   */
+  public static QueryListener get(String type) throws SQLException {
+    if (type == null) return null;
+
+    QueryListener plugin = loadedPlugins.get(type);
+    if (plugin != null) {
+      return plugin;
+    }
+
+    StringWriter errorBuffer = new StringWriter();
+    try (PrintWriter errorWriter = new PrintWriter(errorBuffer)) {
+      synchronized (loader) {
+        Iterator<QueryListener> iterator = loader.iterator();
+        while (iterator.hasNext()) {
+          try {
+            QueryListener impl = iterator.next();
+            loadedPlugins.putIfAbsent(impl.type(), impl);
+            if (type.equals(impl.type())) {
+              return impl;
+            }
+          } catch (ServiceConfigurationError e) {
+            errorWriter.println(
+                "Failed to load query listener. Ensure all required dependencies for this plugin are available:");
+            e.printStackTrace(errorWriter);
+          }
+        }
+      }
+    }
+
+    String errorMsg = errorBuffer.toString();
+    if (errorMsg.length() > 0) {
+      throw new SQLException(
+          "No query listener registered with the type \""
+              + type
+              + "\" "
+              + "or the required plugin could not be loaded. "
+              + "Some plugins failed to load:\n"
+              + errorMsg,
+          "08004",
+          1251);
+    }
+    throw new IllegalArgumentException(
+        "No query listener registered with the type \"" + type + "\".");
+  }
+}
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin.metrics.micrometer;
+
+import com.singlestore.jdbc.plugin.PoolMetrics;
+import com.singlestore.jdbc.pool.PoolMBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/** Pool metrics recorder registering Micrometer meters, all tagged with pool name. */
+public final class MicrometerPoolMetrics implements PoolMetrics {
+
+  private static final String PREFIX = "singlestore.pool.";
+  private static volatile MeterRegistry registry = Metrics.globalRegistry;
+
+  private final MeterRegistry meterRegistry;
+  private final List<Meter> meters = new ArrayList<>();
+  private final Timer acquire;
+  private final Counter timeout;
+  private final Timer creation;
+  private final Counter creationFailure;
+  private final Timer usage;
+  private final Timer reset;
+  private final Map<RemovalReason, Counter> removals = new EnumMap<>(RemovalReason.class);
+
+  /**
+   * Constructor
+   *
+   * @param poolName pool name
+   * @param pool pool counters
+   */
+  public MicrometerPoolMetrics(String poolName, PoolMBean pool) {
+    meterRegistry = registry;
+    acquire = timer("acquire", "time waited to borrow a connection", poolName);
+    timeout =
+        counter("timeout", "borrows failing to get a connection within connectTimeout", poolName);
+    creation = timer("creation", "physical connection creation time", poolName);
+    creationFailure =
+        counter("creation.failure", "physical connection creation failures", poolName);
+    usage = timer("usage", "time connections are borrowed", poolName);
+    reset = timer("reset", "connection reset time when given back to pool", poolName);
+    for (RemovalReason reason : RemovalReason.values()) {
+      Counter counter =
+          Counter.builder(PREFIX + "connections.removed")
+              .description("physical connections removed from pool")
+              .tag("pool", poolName)
+              .tag("reason", reason.name().toLowerCase())
+              .register(meterRegistry);
+      meters.add(counter);
+      removals.put(reason, counter);
+    }
+
+    gauge("active", "borrowed connections", poolName, pool, PoolMBean::getActiveConnections);
+    gauge("idle", "idle connections", poolName, pool, PoolMBean::getIdleConnections);
+    gauge("total", "physical connections", poolName, pool, PoolMBean::getTotalConnections);
+    gauge("pending", "borrowers waiting", poolName, pool, PoolMBean::getConnectionRequests);
+    functionCounter(
+        "prepare.metadata.hits",
+        "prepared statements using shared column metadata",
+        poolName,
+        pool,
+        PoolMBean::getPrepareMetadataHits);
+    functionCounter(
+        "prepare.metadata.misses",
+        "prepared statements decoding column metadata",
+        poolName,
+        pool,
+        PoolMBean::getPrepareMetadataMisses);
+    functionCounter(
+        "prepare.metadata.evictions",
+        "shared column metadata evicted, cache being full",
+        poolName,
+        pool,
+        PoolMBean::getPrepareMetadataEvictions);
+  }
+
+  /**
+   * Set registry used by pools created afterward. Default to Micrometer global registry.
+   *
+   * @param meterRegistry registry
+   */
+  public static void setRegistry(MeterRegistry meterRegistry) {
+    registry = meterRegistry;
+  }
+
+  private Timer timer(String name, String description, String poolName) {
+    Timer timer =
+        Timer.builder(PREFIX + name)
+            .description(description)
+            .tag("pool", poolName)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    meters.add(timer);
+    return timer;
+  }
+
+  private Counter counter(String name, String description, String poolName) {
+    Counter counter =
+        Counter.builder(PREFIX + name)
+            .description(description)
+            .tag("pool", poolName)
+            .register(meterRegistry);
+    meters.add(counter);
+    return counter;
+  }
+
+  private void gauge(
+      String name,
+      String description,
+      String poolName,
+      PoolMBean pool,
+      ToLongFunction<PoolMBean> value) {
+    meters.add(
+        Gauge.builder(PREFIX + "connections." + name, pool, p -> value.applyAsLong(p))
+            .description(description)
+            .tag("pool", poolName)
+            .register(meterRegistry));
+  }
+
+  private void functionCounter(
+      String name,
+      String description,
+      String poolName,
+      PoolMBean pool,
+      ToLongFunction<PoolMBean> value) {
+    meters.add(
+        FunctionCounter.builder(PREFIX + name, pool, p -> value.applyAsLong(p))
+            .description(description)
+            .tag("pool", poolName)
+            .register(meterRegistry));
+  }
+
+  @Override
+  public void connectionAcquired(long waitNanos) {
+    acquire.record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void connectionTimeout(long waitNanos) {
+    timeout.increment();
+  }
+
+  @Override
+  public void connectionCreated(long creationNanos) {
+    creation.record(creationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void connectionCreationFailed() {
+    creationFailure.increment();
+  }
+
+  @Override
+  public void connectionUsed(long usageNanos) {
+    usage.record(usageNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void connectionReset(long resetNanos) {
+    reset.record(resetNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void connectionRemoved(RemovalReason reason) {
+    removals.get(reason).increment();
+  }
+
+  @Override
+  public void close() {
+    for (Meter meter : meters) {
+      meterRegistry.remove(meter);
+    }
+  }
+}
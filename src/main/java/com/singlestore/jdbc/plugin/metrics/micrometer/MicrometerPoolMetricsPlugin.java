@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.plugin.metrics.micrometer;
+
+import com.singlestore.jdbc.plugin.PoolMetrics;
+import com.singlestore.jdbc.plugin.PoolMetricsPlugin;
+import com.singlestore.jdbc.pool.PoolMBean;
+
+/**
+ * Pool metrics exported to Micrometer. Micrometer must be present in classpath.
+ *
+ * <p>example : `jdbc:singlestore://host/db?pool&poolMetricsType=MICROMETER`
+ *
+ * <p>Meters are registered to Micrometer global registry, unless another registry is set using
+ * {@link MicrometerPoolMetrics#setRegistry(io.micrometer.core.instrument.MeterRegistry)}.
+ */
+public class MicrometerPoolMetricsPlugin implements PoolMetricsPlugin {
+
+  @Override
+  public String type() {
+    return "MICROMETER";
+  }
+
+  @Override
+  public PoolMetrics create(String poolName, PoolMBean pool) {
+    return new MicrometerPoolMetrics(poolName, pool);
+  }
+}
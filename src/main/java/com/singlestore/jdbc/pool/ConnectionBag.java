@@ -0,0 +1,186 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pool connection storage, avoiding any lock when borrowing or returning connections.
+ *
+ * <p>Borrowing first tries the connection last used by current thread, then scans the list of all
+ * pool connections, and finally waits for a connection to be handed off by a returning thread.
+ * Connections are never moved between collections: ownership is only a matter of connection state,
+ * changed by compare-and-set.
+ */
+final class ConnectionBag {
+
+  static final int STATE_NOT_IN_USE = 0;
+  static final int STATE_IN_USE = 1;
+  // neither idle nor borrowed: being removed, or being reset before returning to idle state
+  static final int STATE_RESERVED = 2;
+  static final int STATE_REMOVED = 3;
+
+  private final CopyOnWriteArrayList<InternalPoolConnection> sharedList =
+      new CopyOnWriteArrayList<>();
+  private final ThreadLocal<WeakReference<InternalPoolConnection>> lastUsed = new ThreadLocal<>();
+  private final SynchronousQueue<InternalPoolConnection> handoffQueue =
+      new SynchronousQueue<>(true);
+  private final AtomicInteger waiters = new AtomicInteger();
+
+  /**
+   * Borrow an idle connection.
+   *
+   * @param timeout maximum time to wait for a connection to be returned, 0 to not wait
+   * @param timeUnit timeout unit
+   * @return a connection, now in use, or null if none became available in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+  InternalPoolConnection borrow(long timeout, TimeUnit timeUnit) throws InterruptedException {
+    WeakReference<InternalPoolConnection> ref = lastUsed.get();
+    if (ref != null) {
+      InternalPoolConnection item = ref.get();
+      if (item != null && item.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+        return item;
+      }
+    }
+
+    waiters.incrementAndGet();
+    try {
+      for (InternalPoolConnection item : sharedList) {
+        if (item.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+          return item;
+        }
+      }
+
+      long remaining = timeUnit.toNanos(timeout);
+      while (remaining > 0) {
+        long start = System.nanoTime();
+        InternalPoolConnection item = handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+        if (item == null) return null;
+        if (item.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) return item;
+        remaining -= System.nanoTime() - start;
+      }
+      return null;
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Return a borrowed connection, handing it off directly to a waiting thread if any.
+   *
+   * @param item borrowed connection
+   */
+  void requite(InternalPoolConnection item) {
+    unreserve(item);
+    lastUsed.set(new WeakReference<>(item));
+  }
+
+  /**
+   * Make a borrowed or reserved connection idle again, handing it off directly to a waiting thread
+   * if any. Unlike {@link #requite(InternalPoolConnection)}, current thread is not considered as
+   * connection last user.
+   *
+   * @param item connection
+   */
+  void unreserve(InternalPoolConnection item) {
+    item.setState(STATE_NOT_IN_USE);
+    for (int i = 0; waiters.get() > 0; i++) {
+      if (item.getState() != STATE_NOT_IN_USE || handoffQueue.offer(item)) {
+        break;
+      } else if ((i & 0xff) == 0xff) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+      } else {
+        Thread.yield();
+      }
+    }
+  }
+
+  /**
+   * Add a new idle connection.
+   *
+   * @param item connection
+   */
+  void add(InternalPoolConnection item) {
+    item.setState(STATE_NOT_IN_USE);
+    sharedList.add(item);
+
+    // a waiting thread may have scanned the list before this addition
+    while (waiters.get() > 0
+        && item.getState() == STATE_NOT_IN_USE
+        && !handoffQueue.offer(item)) {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Reserve an idle connection, so it can not be borrowed, before removing it.
+   *
+   * @param item connection
+   * @return true if connection was idle and is now reserved
+   */
+  boolean reserve(InternalPoolConnection item) {
+    return item.compareAndSetState(STATE_NOT_IN_USE, STATE_RESERVED);
+  }
+
+  /**
+   * Remove a borrowed or reserved connection.
+   *
+   * @param item connection
+   * @return true if connection was part of this bag
+   */
+  boolean remove(InternalPoolConnection item) {
+    if (!item.compareAndSetState(STATE_IN_USE, STATE_REMOVED)
+        && !item.compareAndSetState(STATE_RESERVED, STATE_REMOVED)) {
+      return false;
+    }
+    return sharedList.remove(item);
+  }
+
+  /**
+   * All connections, whatever their state. List is a snapshot.
+   *
+   * @return connections
+   */
+  List<InternalPoolConnection> values() {
+    return new ArrayList<>(sharedList);
+  }
+
+  /**
+   * Idle connections, most recently added first. List is a snapshot.
+   *
+   * @return idle connections
+   */
+  List<InternalPoolConnection> idleValues() {
+    List<InternalPoolConnection> idle = new ArrayList<>();
+    for (InternalPoolConnection item : sharedList) {
+      if (item.getState() == STATE_NOT_IN_USE) idle.add(item);
+    }
+    Collections.reverse(idle);
+    return idle;
+  }
+
+  /**
+   * Current number of idle connections.
+   *
+   * @return idle connection number
+   */
+  int idleCount() {
+    int count = 0;
+    for (InternalPoolConnection item : sharedList) {
+      if (item.getState() == STATE_NOT_IN_USE) count++;
+    }
+    return count;
+  }
+}
@@ -7,10 +7,14 @@ package com.singlestore.jdbc.pool;
 
 import com.singlestore.jdbc.Connection;
 import com.singlestore.jdbc.SingleStorePoolConnection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class InternalPoolConnection extends SingleStorePoolConnection {
   private final AtomicLong lastUsed;
+  private final AtomicLong lastValidated;
+  private volatile long lastBorrowed;
+  private final AtomicInteger state = new AtomicInteger(ConnectionBag.STATE_NOT_IN_USE);
   private boolean failed;
 
   /**
@@ -21,6 +25,7 @@ public class InternalPoolConnection extends SingleStorePoolConnection {
   public InternalPoolConnection(Connection connection) {
     super(connection);
     lastUsed = new AtomicLong(System.nanoTime());
+    lastValidated = new AtomicLong(lastUsed.get());
   }
 
   /**
@@ -37,6 +42,35 @@ public class InternalPoolConnection extends SingleStorePoolConnection {
     lastUsed.set(System.nanoTime());
   }
 
+  /**
+   * Indicate last time this pool connection has been known valid, either by being used or by
+   * background validation.
+   *
+   * @return last validation time (nano).
+   */
+  public long getLastValidated() {
+    return Math.max(lastUsed.get(), lastValidated.get());
+  }
+
+  /** Set last poolConnection validation to now, without changing its idle time. */
+  public void lastValidatedToNow() {
+    lastValidated.set(System.nanoTime());
+  }
+
+  /**
+   * Indicate last time this pool connection has been borrowed.
+   *
+   * @return last borrowing time (nano).
+   */
+  public long getLastBorrowed() {
+    return lastBorrowed;
+  }
+
+  /** Set last poolConnection borrowing to now. */
+  public void lastBorrowedToNow() {
+    lastBorrowed = System.nanoTime();
+  }
+
   public boolean isFailed() {
     return failed;
   }
@@ -48,5 +82,23 @@ public class InternalPoolConnection extends SingleStorePoolConnection {
   /** Reset last used time, to ensure next retrieval will validate connection before borrowing */
   public void ensureValidation() {
     lastUsed.set(0L);
+    lastValidated.set(0L);
+  }
+
+  /**
+   * Pool state of this connection (idle, borrowed, reserved or removed)
+   *
+   * @return state
+   */
+  int getState() {
+    return state.get();
+  }
+
+  void setState(int newState) {
+    state.set(newState);
+  }
+
+  boolean compareAndSetState(int expect, int update) {
+    return state.compareAndSet(expect, update);
   }
 }
@@ -8,7 +8,16 @@ package com.singlestore.jdbc.pool;
 import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.Connection;
 import com.singlestore.jdbc.Driver;
+import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.Statement;
+import com.singlestore.jdbc.client.impl.AggregatorDiscovery;
+import com.singlestore.jdbc.client.impl.HostHealthProber;
+import com.singlestore.jdbc.client.impl.PrepareMetadataCache;
+import com.singlestore.jdbc.export.HaMode;
+import com.singlestore.jdbc.plugin.PoolMetrics;
+import com.singlestore.jdbc.plugin.PoolMetrics.RemovalReason;
+import com.singlestore.jdbc.plugin.PoolMetricsPlugin;
+import com.singlestore.jdbc.plugin.metrics.PoolMetricsPluginLoader;
 import com.singlestore.jdbc.util.log.Logger;
 import com.singlestore.jdbc.util.log.Loggers;
 import java.lang.management.ManagementFactory;
@@ -16,14 +25,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -39,21 +50,30 @@ public class Pool implements AutoCloseable, PoolMBean {
   private final Logger logger;
   private static final int POOL_STATE_OK = 0;
   private static final int POOL_STATE_CLOSING = 1;
+  private static final int VALIDATION_TIMEOUT = 10; // in seconds
 
   private final AtomicInteger poolState = new AtomicInteger();
 
   private final Configuration conf;
   private final AtomicInteger pendingRequestNumber = new AtomicInteger();
   private final AtomicInteger totalConnection = new AtomicInteger();
+  private final AtomicInteger connectionsInCreation = new AtomicInteger();
 
-  private final LinkedBlockingDeque<InternalPoolConnection> idleConnections;
+  private final ConnectionBag connections = new ConnectionBag();
   private final ThreadPoolExecutor connectionAppender;
   private final BlockingQueue<Runnable> connectionAppenderQueue;
+  private final ThreadPoolExecutor connectionResetter;
 
   private final String poolTag;
+  private final PoolMetrics metrics;
   private final ScheduledThreadPoolExecutor poolExecutor;
   private final ScheduledFuture<?> scheduledFuture;
-  private int waitTimeout;
+  private final ScheduledFuture<?> validationFuture;
+  private final ScheduledFuture<?> rebalanceFuture;
+  // hosts connections have last been balanced on, only used by rebalance task
+  private Set<HostAddress> balancedHosts;
+  private volatile int waitTimeout = 28800;
+  private volatile boolean waitTimeoutInitialized;
 
   /**
    * Create pool from configuration.
@@ -67,22 +87,35 @@ public class Pool implements AutoCloseable, PoolMBean {
     this.logger = Loggers.getLogger(Pool.class);
     this.conf = conf;
     poolTag = generatePoolTag(poolIndex);
+    metrics = createMetrics(poolIndex);
 
-    // one thread to add new connection to pool.
+    // poolCreationThreads threads to add new connection to pool, limiting concurrent handshakes
     connectionAppenderQueue = new ArrayBlockingQueue<>(conf.maxPoolSize());
     connectionAppender =
         new ThreadPoolExecutor(
-            1,
-            1,
+            conf.poolCreationThreads(),
+            conf.poolCreationThreads(),
             10,
             TimeUnit.SECONDS,
             connectionAppenderQueue,
             new PoolThreadFactory(poolTag + "-appender"));
     connectionAppender.allowCoreThreadTimeOut(true);
-    // create workers, since driver only interact with queue after that (i.e. not using .execute() )
-    connectionAppender.prestartCoreThread();
 
-    idleConnections = new LinkedBlockingDeque<>();
+    // released connections are reset on pool threads, a connection having at most one pending reset
+    if (conf.poolAsyncReset()) {
+      connectionResetter =
+          new ThreadPoolExecutor(
+              conf.maxPoolSize(),
+              conf.maxPoolSize(),
+              10,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new PoolThreadFactory(poolTag + "-resetter"));
+      connectionResetter.allowCoreThreadTimeOut(true);
+    } else {
+      connectionResetter = null;
+    }
+
     int minDelay =
         Integer.parseInt(conf.nonMappedOptions().getProperty("testMaxRemovalDelay", "30"));
     int scheduleDelay = Math.min(minDelay, conf.maxIdleTime() / 2);
@@ -90,6 +123,23 @@ public class Pool implements AutoCloseable, PoolMBean {
     scheduledFuture =
         poolExecutor.scheduleAtFixedRate(
             this::removeIdleTimeoutConnection, scheduleDelay, scheduleDelay, TimeUnit.SECONDS);
+    validationFuture =
+        conf.poolIdleValidationInterval() > 0
+            ? poolExecutor.scheduleWithFixedDelay(
+                this::validateIdleConnections,
+                conf.poolIdleValidationInterval(),
+                conf.poolIdleValidationInterval(),
+                TimeUnit.MILLISECONDS)
+            : null;
+    balancedHosts = new HashSet<>(AggregatorDiscovery.addresses(conf));
+    rebalanceFuture =
+        conf.discoveryInterval() > 0
+            ? poolExecutor.scheduleWithFixedDelay(
+                this::rebalanceConnections,
+                conf.discoveryInterval(),
+                conf.discoveryInterval(),
+                TimeUnit.MILLISECONDS)
+            : null;
 
     if (conf.registerJmxPool()) {
       try {
@@ -99,41 +149,36 @@ public class Pool implements AutoCloseable, PoolMBean {
       }
     }
 
-    // create minimal connection in pool
-    try {
-      for (int i = 0; i < Math.max(1, conf.minPoolSize()); i++) {
-        addConnection();
-      }
-      waitTimeout = 28800;
-      if (!idleConnections.isEmpty()) {
-        try (Statement stmt = idleConnections.getFirst().getConnection().createStatement()) {
-          ResultSet rs = stmt.executeQuery("SELECT @@wait_timeout");
-          if (rs.next()) waitTimeout = rs.getInt(1);
-        }
-      }
-    } catch (SQLException sqle) {
-      logger.error("error initializing pool connection", sqle);
+    // pre-warm minimal connection in pool in background
+    for (int i = 0; i < Math.max(1, conf.minPoolSize()); i++) {
+      addConnectionRequest();
     }
   }
 
   /**
-   * Add new connection if needed. Only one thread create new connection, so new connection request
-   * will wait to newly created connection or for a released connection.
+   * Add new connection if needed. Up to poolCreationThreads threads create new connections, so new
+   * connection request will wait to newly created connection or for a released connection.
    */
   private void addConnectionRequest() {
     if (totalConnection.get() < conf.maxPoolSize() && poolState.get() == POOL_STATE_OK) {
 
-      // ensure to have one worker if was timeout
-      connectionAppender.prestartCoreThread();
+      // ensure to have workers if they were timeout
+      connectionAppender.prestartAllCoreThreads();
       connectionAppenderQueue.offer(
           () -> {
-            if ((totalConnection.get() < conf.minPoolSize() || pendingRequestNumber.get() > 0)
-                && totalConnection.get() < conf.maxPoolSize()) {
-              try {
+            int creating = connectionsInCreation.incrementAndGet();
+            try {
+              // connections already being created by other workers are taken into account
+              int total = totalConnection.get() + creating - 1;
+              if ((total < Math.max(1, conf.minPoolSize())
+                      || pendingRequestNumber.get() >= creating)
+                  && total < conf.maxPoolSize()) {
                 addConnection();
-              } catch (SQLException sqle) {
-                logger.error("error adding connection to pool", sqle);
               }
+            } catch (SQLException sqle) {
+              logger.error("error adding connection to pool", sqle);
+            } finally {
+              connectionsInCreation.decrementAndGet();
             }
           });
     }
@@ -145,38 +190,42 @@ public class Pool implements AutoCloseable, PoolMBean {
    */
   private void removeIdleTimeoutConnection() {
 
-    // descending iterator since first from queue are the first to be used
-    Iterator<InternalPoolConnection> iterator = idleConnections.descendingIterator();
+    // keep pool hosts checked as long as pool is alive
+    if (conf.healthCheckInterval() > 0) HostHealthProber.register(conf);
+
+    // descending order since most recently returned connections are the first to be used
+    List<InternalPoolConnection> idle = connections.idleValues();
 
     InternalPoolConnection item;
 
-    while (iterator.hasNext()) {
-      item = iterator.next();
+    for (int i = idle.size() - 1; i >= 0; i--) {
+      item = idle.get(i);
 
       long idleTime = System.nanoTime() - item.getLastUsed().get();
       boolean timedOut = idleTime > TimeUnit.SECONDS.toNanos(conf.maxIdleTime());
 
-      boolean shouldBeReleased = false;
+      RemovalReason reason = null;
       Connection con = item.getConnection();
       if (waitTimeout > 0) {
 
-        // idle time is reaching server @@wait_timeout
-        if (idleTime > TimeUnit.SECONDS.toNanos(waitTimeout - 45)) {
-          shouldBeReleased = true;
-        }
-
         //  idle has reach option maxIdleTime value and pool has more connections than minPoolSiz
         if (timedOut && totalConnection.get() > conf.minPoolSize()) {
-          shouldBeReleased = true;
+          reason = RemovalReason.IDLE_TIMEOUT;
+        }
+
+        // idle time is reaching server @@wait_timeout
+        if (idleTime > TimeUnit.SECONDS.toNanos(waitTimeout - 45)) {
+          reason = RemovalReason.SERVER_TIMEOUT;
         }
 
       } else if (timedOut) {
-        shouldBeReleased = true;
+        reason = RemovalReason.IDLE_TIMEOUT;
       }
 
-      if (shouldBeReleased && idleConnections.remove(item)) {
+      if (reason != null && connections.reserve(item) && connections.remove(item)) {
 
         totalConnection.decrementAndGet();
+        metrics.connectionRemoved(reason);
         silentCloseConnection(con);
         addConnectionRequest();
         if (logger.isDebugEnabled()) {
@@ -192,6 +241,116 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
   }
 
+  /**
+   * Validate idle connections that have been neither used nor validated since
+   * poolIdleValidationInterval, so borrowers get already validated connections. Failing connections
+   * are replaced.
+   */
+  private void validateIdleConnections() {
+    long interval = TimeUnit.MILLISECONDS.toNanos(conf.poolIdleValidationInterval());
+    for (InternalPoolConnection item : connections.idleValues()) {
+      if (poolState.get() != POOL_STATE_OK) return;
+      if (System.nanoTime() - item.getLastValidated() < interval || !connections.reserve(item)) {
+        continue;
+      }
+
+      boolean valid;
+      try {
+        valid =
+            !isHostUnavailable(item.getConnection())
+                && item.getConnection().isValid(VALIDATION_TIMEOUT);
+      } catch (SQLException sqle) {
+        valid = false;
+      }
+
+      if (valid) {
+        item.lastValidatedToNow();
+        connections.unreserve(item);
+        continue;
+      }
+
+      // connection may already have been removed by connection error event
+      if (connections.remove(item)) totalConnection.decrementAndGet();
+      metrics.connectionRemoved(RemovalReason.VALIDATION_FAILED);
+      silentAbortConnection(item.getConnection());
+      addConnectionRequest();
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "pool {} idle connection {} removed due to failed validation (total:{}, active:{}, pending:{})",
+            poolTag,
+            item.getConnection().getThreadId(),
+            totalConnection.get(),
+            getActiveConnections(),
+            pendingRequestNumber.get());
+      }
+    }
+  }
+
+  /**
+   * Indicate if connection host failed its last background health check, or is no longer part of
+   * discovered hosts.
+   *
+   * @param connection connection
+   * @return true if connection host is known to be down or has been removed
+   */
+  private boolean isHostUnavailable(Connection connection) {
+    HostAddress hostAddress = connection.getClient().getHostAddress();
+    return (conf.healthCheckInterval() > 0 && HostHealthProber.isDown(hostAddress))
+        || AggregatorDiscovery.isRemoved(conf, hostAddress);
+  }
+
+  /**
+   * Follow discovered hosts when they change: idle connections to removed hosts are closed, and
+   * with load-balance HA modes, idle connections of hosts having more than their share of pool
+   * connections are closed, so that connections created from now on, on hosts chosen by HA mode, go
+   * to added hosts. Connections are never retired while hosts are unchanged, balance between the
+   * same hosts being left to HA mode.
+   */
+  private void rebalanceConnections() {
+    // keep pool hosts refreshed as long as pool is alive
+    AggregatorDiscovery.register(conf);
+    List<HostAddress> hosts = AggregatorDiscovery.addresses(conf);
+    Set<HostAddress> hostSet = new HashSet<>(hosts);
+    if (hostSet.equals(balancedHosts)) return;
+    balancedHosts = hostSet;
+    boolean balance = conf.haMode() == HaMode.LOADBALANCE || conf.haMode() == HaMode.LATENCY;
+
+    Map<HostAddress, Integer> counts = new HashMap<>();
+    for (HostAddress hostAddress : hosts) counts.put(hostAddress, 0);
+    int total = 0;
+    for (InternalPoolConnection item : connections.values()) {
+      HostAddress hostAddress = item.getConnection().getClient().getHostAddress();
+      if (counts.computeIfPresent(hostAddress, (host, count) -> count + 1) != null) total++;
+    }
+    // no host may have more connections than its share, rounded up
+    int share = (total + hosts.size() - 1) / Math.max(1, hosts.size());
+
+    for (InternalPoolConnection item : connections.idleValues()) {
+      if (poolState.get() != POOL_STATE_OK) return;
+      HostAddress hostAddress = item.getConnection().getClient().getHostAddress();
+      Integer count = counts.get(hostAddress);
+      if (count != null && (!balance || count <= share)) continue;
+
+      if (connections.reserve(item) && connections.remove(item)) {
+        if (count != null) counts.put(hostAddress, count - 1);
+        totalConnection.decrementAndGet();
+        metrics.connectionRemoved(RemovalReason.REBALANCED);
+        silentCloseConnection(item.getConnection());
+        addConnectionRequest();
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "pool {} connection {} to {} removed to follow discovered hosts (total:{}, active:{}, pending:{})",
+              poolTag,
+              item.getConnection().getThreadId(),
+              hostAddress,
+              totalConnection.get(),
+              getActiveConnections(),
+              pendingRequestNumber.get());
+        }
+      }
+    }
+  }
+
   /**
    * Create new connection.
    *
@@ -200,7 +359,25 @@ public class Pool implements AutoCloseable, PoolMBean {
   private void addConnection() throws SQLException {
 
     // create new connection
-    Connection connection = Driver.connect(conf);
+    long start = System.nanoTime();
+    Connection connection;
+    try {
+      connection = Driver.connect(conf);
+    } catch (SQLException sqle) {
+      metrics.connectionCreationFailed();
+      throw sqle;
+    }
+    metrics.connectionCreated(System.nanoTime() - start);
+    if (!waitTimeoutInitialized) {
+      try (Statement stmt = connection.createStatement()) {
+        ResultSet rs = stmt.executeQuery("SELECT @@wait_timeout");
+        if (rs.next()) waitTimeout = rs.getInt(1);
+        waitTimeoutInitialized = true;
+      } catch (SQLException sqle) {
+        silentCloseConnection(connection);
+        throw sqle;
+      }
+    }
     InternalPoolConnection item = new InternalPoolConnection(connection);
     item.addConnectionEventListener(
         new ConnectionEventListener() {
@@ -209,26 +386,28 @@ public class Pool implements AutoCloseable, PoolMBean {
           public void connectionClosed(ConnectionEvent event) {
             InternalPoolConnection item = (InternalPoolConnection) event.getSource();
             if (poolState.get() == POOL_STATE_OK) {
-              try {
-                if (!idleConnections.contains(item)) {
-                  item.getConnection().reset();
-                  item.lastUsedToNow();
-                  if (item.isFailed()) {
-                    // some connections after error are closing and returns to idle state
-                    item.setFailed(false);
-                    totalConnection.incrementAndGet();
+              // connection state permits to ignore connection already returned, without search.
+              // Connection stays reserved while resetting, so it can not be borrowed nor reset twice
+              if (item.isFailed()
+                  ? item.getState() == ConnectionBag.STATE_REMOVED
+                  : item.compareAndSetState(
+                      ConnectionBag.STATE_IN_USE, ConnectionBag.STATE_RESERVED)) {
+                if (!item.isFailed()) {
+                  metrics.connectionUsed(System.nanoTime() - item.getLastBorrowed());
+                }
+                if (connectionResetter != null) {
+                  try {
+                    connectionResetter.execute(() -> resetAndRelease(item));
+                    return;
+                  } catch (RejectedExecutionException e) {
+                    // pool is closing
                   }
-                  idleConnections.addFirst(item);
                 }
-              } catch (SQLException sqle) {
-
-                // sql exception during reset, removing connection from pool
-                totalConnection.decrementAndGet();
-                silentCloseConnection(item.getConnection());
-                logger.debug("connection removed from pool {} due to error during reset", poolTag);
+                resetAndRelease(item);
               }
             } else {
               // pool is closed, should then not be render to pool, but closed.
+              connections.remove(item);
               try {
                 item.getConnection().close();
               } catch (SQLException sqle) {
@@ -244,11 +423,12 @@ public class Pool implements AutoCloseable, PoolMBean {
             InternalPoolConnection item = ((InternalPoolConnection) event.getSource());
             item.setFailed(true);
             totalConnection.decrementAndGet();
-            idleConnections.remove(item);
+            connections.remove(item);
+            metrics.connectionRemoved(RemovalReason.CONNECTION_ERROR);
 
             // ensure that other connection will be validated before being use
             // since one connection failed, better to assume the other might as well
-            idleConnections.forEach(InternalPoolConnection::ensureValidation);
+            connections.idleValues().forEach(InternalPoolConnection::ensureValidation);
 
             silentCloseConnection(item.getConnection());
             addConnectionRequest();
@@ -263,7 +443,7 @@ public class Pool implements AutoCloseable, PoolMBean {
         });
     if (poolState.get() == POOL_STATE_OK
         && totalConnection.incrementAndGet() <= conf.maxPoolSize()) {
-      idleConnections.addFirst(item);
+      connections.add(item);
 
       if (logger.isDebugEnabled()) {
         logger.debug(
@@ -279,6 +459,46 @@ public class Pool implements AutoCloseable, PoolMBean {
     silentCloseConnection(connection);
   }
 
+  /**
+   * Reset a released connection, then make it available again.
+   *
+   * @param item released connection
+   */
+  private void resetAndRelease(InternalPoolConnection item) {
+    if (!item.isFailed()
+        && AggregatorDiscovery.isRemoved(conf, item.getConnection().getClient().getHostAddress())) {
+      // host has been removed: connection is drained instead of being reused
+      connections.remove(item);
+      totalConnection.decrementAndGet();
+      metrics.connectionRemoved(RemovalReason.REBALANCED);
+      silentCloseConnection(item.getConnection());
+      addConnectionRequest();
+      return;
+    }
+    try {
+      long start = System.nanoTime();
+      item.getConnection().reset();
+      metrics.connectionReset(System.nanoTime() - start);
+      item.lastUsedToNow();
+      if (item.isFailed()) {
+        // some connections after error are closing and returns to idle state
+        item.setFailed(false);
+        totalConnection.incrementAndGet();
+        connections.add(item);
+      } else {
+        connections.requite(item);
+      }
+    } catch (SQLException sqle) {
+
+      // sql exception during reset, removing connection from pool
+      connections.remove(item);
+      totalConnection.decrementAndGet();
+      metrics.connectionRemoved(RemovalReason.RESET_FAILED);
+      silentCloseConnection(item.getConnection());
+      logger.debug("connection removed from pool {} due to error during reset", poolTag);
+    }
+  }
+
   /**
    * Get an existing idle connection in pool.
    *
@@ -288,18 +508,17 @@ public class Pool implements AutoCloseable, PoolMBean {
       throws InterruptedException {
 
     while (true) {
-      InternalPoolConnection item =
-          (timeout == 0)
-              ? idleConnections.pollFirst()
-              : idleConnections.pollFirst(timeout, timeUnit);
+      InternalPoolConnection item = connections.borrow(timeout, timeUnit);
 
       if (item != null) {
         try {
-          if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - item.getLastUsed().get())
+          if (isHostUnavailable(item.getConnection())) {
+            // host is down or removed: discard connection without waiting for validation timeout
+          } else if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - item.getLastValidated())
               > conf.poolValidMinDelay()) {
 
             // validate connection
-            if (item.getConnection().isValid(10)) { // 10 seconds timeout
+            if (item.getConnection().isValid(VALIDATION_TIMEOUT)) {
               return item;
             }
 
@@ -314,6 +533,8 @@ public class Pool implements AutoCloseable, PoolMBean {
         }
 
         // validation failed
+        connections.remove(item);
+        metrics.connectionRemoved(RemovalReason.VALIDATION_FAILED);
         silentAbortConnection(item.getConnection());
         addConnectionRequest();
         if (logger.isDebugEnabled()) {
@@ -360,13 +581,14 @@ public class Pool implements AutoCloseable, PoolMBean {
    */
   public InternalPoolConnection getPoolConnection() throws SQLException {
     pendingRequestNumber.incrementAndGet();
+    long start = System.nanoTime();
     InternalPoolConnection poolConnection;
     try {
       // try to get Idle connection if any (with a very small timeout)
       if ((poolConnection =
               getIdleConnection(totalConnection.get() > 4 ? 0 : 50, TimeUnit.MICROSECONDS))
           != null) {
-        return poolConnection;
+        return acquired(poolConnection, start);
       }
 
       // ask for new connection creation if max is not reached
@@ -377,9 +599,10 @@ public class Pool implements AutoCloseable, PoolMBean {
               getIdleConnection(
                   TimeUnit.MILLISECONDS.toNanos(conf.connectTimeout()), TimeUnit.NANOSECONDS))
           != null) {
-        return poolConnection;
+        return acquired(poolConnection, start);
       }
 
+      metrics.connectionTimeout(System.nanoTime() - start);
       throw new SQLException(
           String.format(
               "No connection available within the specified time (option 'connectTimeout': %s ms)",
@@ -392,6 +615,12 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
   }
 
+  private InternalPoolConnection acquired(InternalPoolConnection poolConnection, long start) {
+    poolConnection.lastBorrowedToNow();
+    metrics.connectionAcquired(poolConnection.getLastBorrowed() - start);
+    return poolConnection;
+  }
+
   /**
    * Get new connection from pool if user and password correspond to pool. If username and password
    * are different from pool, will return a dedicated connection.
@@ -415,6 +644,19 @@ public class Pool implements AutoCloseable, PoolMBean {
     return new InternalPoolConnection(Driver.connect(tmpConf));
   }
 
+  private PoolMetrics createMetrics(int poolIndex) {
+    try {
+      PoolMetricsPlugin plugin = PoolMetricsPluginLoader.get(conf.poolMetricsType());
+      // unnamed pools share the same tag: metrics need a name unique for the JVM
+      String metricsName = conf.poolName() == null ? poolTag + "-" + poolIndex : poolTag;
+      if (plugin != null) return plugin.create(metricsName, this);
+    } catch (Exception ex) {
+      logger.error(
+          "pool " + poolTag + " metrics not registered due to exception : " + ex.getMessage());
+    }
+    return PoolMetrics.NONE;
+  }
+
   private String generatePoolTag(int poolIndex) {
     if (conf.poolName() == null) {
       return "SingleStore-pool";
@@ -436,10 +678,18 @@ public class Pool implements AutoCloseable, PoolMBean {
         pendingRequestNumber.set(0);
 
         scheduledFuture.cancel(false);
+        if (validationFuture != null) validationFuture.cancel(false);
+        if (rebalanceFuture != null) rebalanceFuture.cancel(false);
         connectionAppender.shutdown();
 
+        if (connectionResetter != null) connectionResetter.shutdown();
+
         try {
           connectionAppender.awaitTermination(10, TimeUnit.SECONDS);
+          if (connectionResetter != null) {
+            // pending resets return their connections to pool, closed just after
+            connectionResetter.awaitTermination(10, TimeUnit.SECONDS);
+          }
         } catch (InterruptedException i) {
           // eat
         }
@@ -465,7 +715,7 @@ public class Pool implements AutoCloseable, PoolMBean {
         // loop for up to 10 seconds to close not used connection
         long start = System.nanoTime();
         do {
-          closeAll(idleConnections);
+          closeAll();
           if (totalConnection.get() > 0) {
             Thread.sleep(0, 10_00);
           }
@@ -473,8 +723,8 @@ public class Pool implements AutoCloseable, PoolMBean {
             && TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
 
         // after having wait for 10 seconds, force removal, even if used connections
-        if (totalConnection.get() > 0 || idleConnections.isEmpty()) {
-          closeAll(idleConnections);
+        if (totalConnection.get() > 0 || connections.idleCount() == 0) {
+          closeAll();
         }
 
         connectionRemover.shutdown();
@@ -483,6 +733,7 @@ public class Pool implements AutoCloseable, PoolMBean {
         } catch (Exception exception) {
           // eat
         }
+        metrics.close();
         connectionRemover.awaitTermination(10, TimeUnit.SECONDS);
       }
     } catch (Exception e) {
@@ -490,11 +741,11 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
   }
 
-  private void closeAll(Collection<InternalPoolConnection> collection) {
-    synchronized (collection) { // synchronized mandatory to iterate Collections.synchronizedList()
-      for (InternalPoolConnection item : collection) {
-        collection.remove(item);
+  private void closeAll() {
+    for (InternalPoolConnection item : connections.idleValues()) {
+      if (connections.reserve(item) && connections.remove(item)) {
         totalConnection.decrementAndGet();
+        metrics.connectionRemoved(RemovalReason.POOL_CLOSED);
         silentAbortConnection(item.getConnection());
       }
     }
@@ -506,7 +757,7 @@ public class Pool implements AutoCloseable, PoolMBean {
 
   @Override
   public long getActiveConnections() {
-    return totalConnection.get() - idleConnections.size();
+    return totalConnection.get() - connections.idleCount();
   }
 
   @Override
@@ -516,13 +767,31 @@ public class Pool implements AutoCloseable, PoolMBean {
 
   @Override
   public long getIdleConnections() {
-    return idleConnections.size();
+    return connections.idleCount();
   }
 
   public long getConnectionRequests() {
     return pendingRequestNumber.get();
   }
 
+  @Override
+  public long getPrepareMetadataHits() {
+    PrepareMetadataCache cache = PrepareMetadataCache.lookup(conf);
+    return cache == null ? 0 : cache.hitCount();
+  }
+
+  @Override
+  public long getPrepareMetadataMisses() {
+    PrepareMetadataCache cache = PrepareMetadataCache.lookup(conf);
+    return cache == null ? 0 : cache.missCount();
+  }
+
+  @Override
+  public long getPrepareMetadataEvictions() {
+    PrepareMetadataCache cache = PrepareMetadataCache.lookup(conf);
+    return cache == null ? 0 : cache.evictionCount();
+  }
+
   private void registerJmx() throws Exception {
     MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
     String jmxName = poolTag.replace(":", "_");
@@ -550,7 +819,7 @@ public class Pool implements AutoCloseable, PoolMBean {
    */
   public List<Long> testGetConnectionIdleThreadIds() {
     List<Long> threadIds = new ArrayList<>();
-    for (InternalPoolConnection pooledConnection : idleConnections) {
+    for (InternalPoolConnection pooledConnection : connections.idleValues()) {
       threadIds.add(pooledConnection.getConnection().getThreadId());
     }
     return threadIds;
@@ -33,4 +33,27 @@ public interface PoolMBean {
    * @return request number
    */
   long getConnectionRequests();
+
+  /**
+   * get number of server prepared statements whose column metadata has been found in shared cache
+   * (option sharedPrepareMetadataSize)
+   *
+   * @return shared prepare metadata hit number
+   */
+  long getPrepareMetadataHits();
+
+  /**
+   * get number of server prepared statements whose column metadata has been decoded, not being in
+   * shared cache, or cached metadata differing from server's
+   *
+   * @return shared prepare metadata miss number
+   */
+  long getPrepareMetadataMisses();
+
+  /**
+   * get number of statements removed from shared prepare metadata cache, cache being full
+   *
+   * @return shared prepare metadata eviction number
+   */
+  long getPrepareMetadataEvictions();
 }
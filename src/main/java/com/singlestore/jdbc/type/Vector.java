@@ -1,7 +1,13 @@
 package com.singlestore.jdbc.type;
 
 import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.socket.Writer;
 import com.singlestore.jdbc.util.VectorDataUtils;
+import com.singlestore.jdbc.util.vector.Float32VectorBinaryParser;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
@@ -78,6 +84,83 @@ public class Vector {
         data.getBytes(StandardCharsets.UTF_8), values.length, DataType.INT64_VECTOR, false);
   }
 
+  /**
+   * Create a binary FLOAT64 vector: values are packed as little-endian doubles, without any text
+   * formatting.
+   *
+   * @param values values
+   * @return binary vector
+   */
+  public static Vector ofFloat64BinaryValues(double[] values) {
+    ByteBuffer buf = allocate(values.length * Double.BYTES);
+    buf.asDoubleBuffer().put(values);
+    return fromData(buf.array(), values.length, DataType.FLOAT64_VECTOR, true);
+  }
+
+  /**
+   * Create a binary FLOAT32 vector: values are packed as little-endian floats, without any text
+   * formatting.
+   *
+   * @param values values
+   * @return binary vector
+   */
+  public static Vector ofFloat32BinaryValues(float[] values) {
+    ByteBuffer buf = allocate(values.length * Float.BYTES);
+    buf.asFloatBuffer().put(values);
+    return fromData(buf.array(), values.length, DataType.FLOAT32_VECTOR, true);
+  }
+
+  /**
+   * Create a binary INT8 vector.
+   *
+   * @param values values
+   * @return binary vector
+   */
+  public static Vector ofInt8BinaryValues(byte[] values) {
+    return fromData(
+        Arrays.copyOf(values, values.length), values.length, DataType.INT8_VECTOR, true);
+  }
+
+  /**
+   * Create a binary INT16 vector: values are packed as little-endian shorts.
+   *
+   * @param values values
+   * @return binary vector
+   */
+  public static Vector ofInt16BinaryValues(short[] values) {
+    ByteBuffer buf = allocate(values.length * Short.BYTES);
+    buf.asShortBuffer().put(values);
+    return fromData(buf.array(), values.length, DataType.INT16_VECTOR, true);
+  }
+
+  /**
+   * Create a binary INT32 vector: values are packed as little-endian ints.
+   *
+   * @param values values
+   * @return binary vector
+   */
+  public static Vector ofInt32BinaryValues(int[] values) {
+    ByteBuffer buf = allocate(values.length * Integer.BYTES);
+    buf.asIntBuffer().put(values);
+    return fromData(buf.array(), values.length, DataType.INT32_VECTOR, true);
+  }
+
+  /**
+   * Create a binary INT64 vector: values are packed as little-endian longs.
+   *
+   * @param values values
+   * @return binary vector
+   */
+  public static Vector ofInt64BinaryValues(long[] values) {
+    ByteBuffer buf = allocate(values.length * Long.BYTES);
+    buf.asLongBuffer().put(values);
+    return fromData(buf.array(), values.length, DataType.INT64_VECTOR, true);
+  }
+
+  private static ByteBuffer allocate(int size) {
+    return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
   /**
    * Get byte array of Vector value.
    *
@@ -87,6 +170,32 @@ public class Vector {
     return Arrays.copyOf(values, values.length);
   }
 
+  /**
+   * Get encoded Vector value length, in bytes.
+   *
+   * @return encoded length
+   */
+  public int getValuesLength() {
+    return values.length;
+  }
+
+  /**
+   * Write encoded Vector value to encoder, without intermediate copy.
+   *
+   * @param encoder writer
+   * @param maxLength maximum number of bytes to write
+   * @param escape must bytes be escaped (text protocol)
+   * @throws IOException if socket error occurs
+   */
+  public void writeValues(Writer encoder, int maxLength, boolean escape) throws IOException {
+    int len = Math.min(maxLength, values.length);
+    if (escape) {
+      encoder.writeBytesEscaped(values, len);
+    } else {
+      encoder.writeBytes(values, 0, len);
+    }
+  }
+
   public boolean isBinary() {
     return isBinary;
   }
@@ -120,6 +229,19 @@ public class Vector {
         : VectorDataUtils.parse(values, length, float[].class, type);
   }
 
+  /**
+   * Get FLOAT32 values as a read-only buffer. For binary FLOAT32 vectors, buffer is a view on
+   * vector data, without any copy.
+   *
+   * @return float buffer
+   */
+  public FloatBuffer asFloatBuffer() {
+    if (isBinary() && type == DataType.FLOAT32_VECTOR) {
+      return Float32VectorBinaryParser.INSTANCE.asFloatBuffer(values, length);
+    }
+    return FloatBuffer.wrap(toFloatArray()).asReadOnlyBuffer();
+  }
+
   public double[] toDoubleArray() {
     return isBinary()
         ? VectorDataUtils.parseBinary(values, length, double[].class, type)
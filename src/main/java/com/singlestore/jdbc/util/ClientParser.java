@@ -17,6 +17,9 @@ public final class ClientParser implements PrepareResult {
   private final int paramCount;
   private final boolean isRewriteBatchedApplicable;
 
+  private static final ParsedSqlCache<ClientParser> CACHE =
+      new ParsedSqlCache<>(1024, 8192, ClientParser::parameterParts);
+
   private ClientParser(
       String sql, byte[] query, List<Integer> paramPositions, boolean isRewriteBatchedApplicable) {
     this.sql = sql;
@@ -30,6 +33,26 @@ public final class ClientParser implements PrepareResult {
     return isRewriteBatchedApplicable;
   }
 
+  /**
+   * Parse prepared statement query, using process-wide cache if asked.
+   *
+   * @param queryString query
+   * @param useCache use cached result if any
+   * @return ClientPrepareResult
+   */
+  public static ClientParser parameterParts(String queryString, boolean useCache) {
+    return useCache ? CACHE.get(queryString) : parameterParts(queryString);
+  }
+
+  /**
+   * Process-wide parsing cache
+   *
+   * @return cache
+   */
+  public static ParsedSqlCache<ClientParser> cache() {
+    return CACHE;
+  }
+
   /**
    * Parse prepared statement query.
    *
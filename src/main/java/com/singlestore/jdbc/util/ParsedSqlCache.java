@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Process-wide bounded cache of client side parsing results, keyed by SQL. Parsing results are
+ * immutable, so they can be shared between connections.
+ *
+ * <p>Eviction is approximate: when cache is full, an arbitrary entry is removed, avoiding any lock
+ * on the read path.
+ *
+ * @param <T> parsing result type
+ */
+public final class ParsedSqlCache<T> {
+
+  private final ConcurrentHashMap<String, T> cache = new ConcurrentHashMap<>();
+  private final int maxSize;
+  private final int maxSqlLength;
+  private final Function<String, T> parser;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructor
+   *
+   * @param maxSize maximum number of cached SQL
+   * @param maxSqlLength SQL longer than this length are parsed but not cached
+   * @param parser parsing function
+   */
+  public ParsedSqlCache(int maxSize, int maxSqlLength, Function<String, T> parser) {
+    this.maxSize = maxSize;
+    this.maxSqlLength = maxSqlLength;
+    this.parser = parser;
+  }
+
+  /**
+   * Get parsing result from cache, parsing SQL if not cached.
+   *
+   * @param sql sql
+   * @return parsing result
+   */
+  public T get(String sql) {
+    T result = cache.get(sql);
+    if (result != null) {
+      hits.increment();
+      return result;
+    }
+    misses.increment();
+    result = parser.apply(sql);
+    if (sql.length() <= maxSqlLength) {
+      if (cache.size() >= maxSize) {
+        Iterator<String> it = cache.keySet().iterator();
+        if (it.hasNext()) cache.remove(it.next());
+      }
+      cache.put(sql, result);
+    }
+    return result;
+  }
+
+  /**
+   * Number of request served from cache
+   *
+   * @return hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Number of request that needed parsing
+   *
+   * @return miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Current number of cached SQL
+   *
+   * @return cache size
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /** Empty cache and reset counters. */
+  public void clear() {
+    cache.clear();
+    hits.reset();
+    misses.reset();
+  }
+}
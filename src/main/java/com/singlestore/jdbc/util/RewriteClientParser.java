@@ -19,6 +19,9 @@ public class RewriteClientParser implements PrepareResult {
   private final int paramPartsLength;
   private final boolean isQueryMultiValuesRewritable;
 
+  private static final ParsedSqlCache<RewriteClientParser> CACHE =
+      new ParsedSqlCache<>(1024, 8192, RewriteClientParser::rewritableParts);
+
   private RewriteClientParser(
       String sql,
       List<byte[]> queryParts,
@@ -33,6 +36,26 @@ public class RewriteClientParser implements PrepareResult {
     this.paramCount = queryParts.size() - 3;
   }
 
+  /**
+   * Get query parts, using process-wide cache if asked.
+   *
+   * @param queryString query String
+   * @param useCache use cached result if any
+   * @return List of query part.
+   */
+  public static RewriteClientParser rewritableParts(String queryString, boolean useCache) {
+    return useCache ? CACHE.get(queryString) : rewritableParts(queryString);
+  }
+
+  /**
+   * Process-wide parsing cache
+   *
+   * @return cache
+   */
+  public static ParsedSqlCache<RewriteClientParser> cache() {
+    return CACHE;
+  }
+
   /**
    * Separate query in a String list and set flag isQueryMultiValuesRewritable The parameters "?"
    * (not in comments) emplacements are to be known.
@@ -0,0 +1,231 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.util.log;
+
+import com.singlestore.jdbc.util.log.ConsoleLogger.CONSOLE_LOG_LEVEL;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Process-wide asynchronous writer of console logger entries.
+ *
+ * <p>Logging threads only claim a slot of a pre-allocated ring buffer by compare-and-set and store
+ * message format, arguments and throwable references: message formatting and writing to streams
+ * are done by a single daemon thread, consecutive entries to the same stream being written at
+ * once. Since formatting is deferred, arguments must not be modified after logging.
+ *
+ * <p>When buffer is full, {@link #publish} returns false and entry is left to the caller.
+ */
+final class AsyncLogWriter implements Runnable {
+
+  private static final int CAPACITY = 8192;
+  private static final int MAX_BATCH_LENGTH = 64 * 1024;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static volatile AsyncLogWriter instance;
+
+  private final Entry[] ring = new Entry[CAPACITY];
+  private final AtomicLong claimed = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  private final StringBuilder sb = new StringBuilder();
+  private final Thread thread;
+  // next sequence to be read, only updated by writer thread
+  private volatile long consumed;
+  private volatile boolean sleeping;
+
+  private AsyncLogWriter() {
+    for (int i = 0; i < CAPACITY; i++) ring[i] = new Entry();
+    thread = new Thread(this, "singlestore-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Get shared writer, starting it if needed.
+   *
+   * @return writer
+   */
+  static AsyncLogWriter instance() {
+    AsyncLogWriter writer = instance;
+    if (writer == null) {
+      synchronized (AsyncLogWriter.class) {
+        writer = instance;
+        if (writer == null) {
+          writer = new AsyncLogWriter();
+          final AsyncLogWriter hookWriter = writer;
+          try {
+            Runtime.getRuntime()
+                .addShutdownHook(
+                    new Thread(() -> hookWriter.flush(1000), "singlestore-log-writer-flush"));
+          } catch (IllegalStateException | SecurityException e) {
+            // JVM shutting down, or not permitted: pending entries may be lost at exit
+          }
+          instance = writer;
+        }
+      }
+    }
+    return writer;
+  }
+
+  /**
+   * Queue a log entry.
+   *
+   * @param stream destination stream
+   * @param level log level
+   * @param name logger name
+   * @param msg message, or message format if arguments are set
+   * @param arguments message arguments, or null
+   * @param throwable throwable to log with stack trace, or null
+   * @return false if buffer is full and entry has not been queued
+   */
+  boolean publish(
+      PrintStream stream,
+      CONSOLE_LOG_LEVEL level,
+      String name,
+      String msg,
+      Object[] arguments,
+      Throwable throwable) {
+    long seq;
+    do {
+      seq = claimed.get();
+      if (seq - consumed >= CAPACITY) return false;
+    } while (!claimed.compareAndSet(seq, seq + 1));
+
+    Entry entry = ring[(int) seq & (CAPACITY - 1)];
+    entry.stream = stream;
+    entry.millis = System.currentTimeMillis();
+    entry.threadName = Thread.currentThread().getName();
+    entry.level = level;
+    entry.name = name;
+    entry.msg = msg;
+    entry.arguments = arguments;
+    entry.throwable = throwable;
+    entry.sequence = seq;
+
+    if (sleeping) LockSupport.unpark(thread);
+    return true;
+  }
+
+  /** Record an entry that has been discarded because buffer was full. */
+  void discarded() {
+    dropped.increment();
+  }
+
+  /**
+   * Wait for all entries queued before this call to be written.
+   *
+   * @param timeoutMillis maximum waiting time in milliseconds
+   */
+  void flush(long timeoutMillis) {
+    long target = claimed.get();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (consumed < target && System.nanoTime() < deadline) {
+      LockSupport.unpark(thread);
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+  }
+
+  @Override
+  public void run() {
+    long next = consumed;
+    PrintStream batchStream = null;
+    while (true) {
+      Entry entry = ring[(int) next & (CAPACITY - 1)];
+      if (entry.sequence == next) {
+        if (batchStream != entry.stream || sb.length() > MAX_BATCH_LENGTH) {
+          write(batchStream);
+          consumed = next;
+          batchStream = entry.stream;
+        }
+        append(entry);
+        entry.clear();
+        next++;
+        continue;
+      }
+
+      // no more published entry: write current batch before waiting
+      write(batchStream);
+      consumed = next;
+      batchStream = null;
+
+      sleeping = true;
+      if (entry.sequence != next) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      sleeping = false;
+    }
+  }
+
+  private void append(Entry entry) {
+    long droppedNumber = dropped.sumThenReset();
+    if (droppedNumber > 0) {
+      ConsoleLogger.appendEntry(
+          sb,
+          entry.millis,
+          thread.getName(),
+          CONSOLE_LOG_LEVEL.WARN,
+          AsyncLogWriter.class.getName(),
+          "{} log entries discarded, log buffer was full",
+          new Object[] {droppedNumber},
+          null);
+    }
+    int len = sb.length();
+    try {
+      ConsoleLogger.appendEntry(
+          sb,
+          entry.millis,
+          entry.threadName,
+          entry.level,
+          entry.name,
+          entry.msg,
+          entry.arguments,
+          entry.throwable);
+    } catch (RuntimeException e) {
+      // an argument failing to format must not stop writer
+      sb.setLength(len);
+      ConsoleLogger.appendEntry(
+          sb,
+          entry.millis,
+          entry.threadName,
+          entry.level,
+          entry.name,
+          "error formatting log message '{}': {}",
+          new Object[] {entry.msg, e},
+          null);
+    }
+  }
+
+  private void write(PrintStream stream) {
+    if (stream != null && sb.length() > 0) {
+      stream.print(sb);
+      stream.flush();
+    }
+    sb.setLength(0);
+  }
+
+  /** Ring buffer slot, reused. */
+  private static final class Entry {
+    // sequence of published content, written last
+    private volatile long sequence = -1;
+    private PrintStream stream;
+    private long millis;
+    private String threadName;
+    private CONSOLE_LOG_LEVEL level;
+    private String name;
+    private String msg;
+    private Object[] arguments;
+    private Throwable throwable;
+
+    private void clear() {
+      stream = null;
+      threadName = null;
+      name = null;
+      msg = null;
+      arguments = null;
+      throwable = null;
+    }
+  }
+}
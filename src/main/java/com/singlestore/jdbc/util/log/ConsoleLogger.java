@@ -6,12 +6,23 @@
 package com.singlestore.jdbc.util.log;
 
 import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.regex.Matcher;
 
+/**
+ * Logger writing to console, or to a file if a log file path is set.
+ *
+ * <p>No lock is taken by logger itself: each entry is built first and written with a single call
+ * to the stream, so entries of concurrent threads are never interleaved. When asynchronous mode is
+ * set, formatting and writing are left to {@link AsyncLogWriter} background thread; TRACE and DEBUG
+ * entries are then discarded if its buffer is full, other levels being written directly.
+ */
 @SuppressWarnings("ALL")
 public class ConsoleLogger implements Logger {
 
@@ -20,11 +31,13 @@ public class ConsoleLogger implements Logger {
   private ConsoleLoggerKey identifier;
   private final PrintStream err;
   private final PrintStream log;
+  private final AsyncLogWriter asyncWriter;
 
   public ConsoleLogger(ConsoleLoggerKey identifier, PrintStream log, PrintStream err) {
     this.identifier = identifier;
     this.log = log == null ? System.out : log;
     this.err = err == null ? System.err : err;
+    this.asyncWriter = identifier.isAsync() ? AsyncLogWriter.instance() : null;
   }
 
   public ConsoleLogger(ConsoleLoggerKey identifier) {
@@ -48,66 +61,85 @@ public class ConsoleLogger implements Logger {
 
   final String format(String from, Object... arguments) {
     if (from != null) {
-      String computed = from;
-      for (Object argument : arguments) {
-        computed =
-            computed.replaceFirst("\\{\\}", Matcher.quoteReplacement(String.valueOf(argument)));
-      }
-      return computed;
+      StringBuilder sb = new StringBuilder();
+      appendFormatted(sb, from, arguments);
+      return sb.toString();
     }
     return null;
   }
 
+  private void log(
+      CONSOLE_LOG_LEVEL level,
+      PrintStream stream,
+      String msg,
+      Object[] arguments,
+      Throwable throwable) {
+    if (asyncWriter != null) {
+      if (asyncWriter.publish(stream, level, getName(), msg, arguments, throwable)) return;
+      if (level.getLevel() >= CONSOLE_LOG_LEVEL.DEBUG.getLevel()) {
+        asyncWriter.discarded();
+        return;
+      }
+    }
+    StringBuilder sb = new StringBuilder();
+    appendEntry(
+        sb,
+        System.currentTimeMillis(),
+        Thread.currentThread().getName(),
+        level,
+        getName(),
+        msg,
+        arguments,
+        throwable);
+    stream.print(sb);
+  }
+
+  private void logCurrentStackTrace(CONSOLE_LOG_LEVEL level) {
+    if (printStackTrace()) {
+      // stack must be computed by logging thread
+      log(
+          level,
+          this.log,
+          LoggerHelper.currentStackTrace(maxStackTraceSizeToLog()),
+          null,
+          null);
+    }
+  }
+
   @Override
   public boolean isTraceEnabled() {
-    return identifier.logLevel.getLevel() >= CONSOLE_LOG_LEVEL.TRACE.getLevel();
+    return this.identifier.logLevel.getLevel() >= CONSOLE_LOG_LEVEL.TRACE.getLevel();
   }
 
   @Override
-  public synchronized void trace(String msg) {
+  public void trace(String msg) {
     if (!isTraceEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] TRACE %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg);
-    if (printStackTrace()) {
-      log.format(
-          "%s [%s] TRACE %s %s\n",
-          currentTimestamp(),
-          Thread.currentThread().getName(),
-          getName(),
-          LoggerHelper.currentStackTrace(maxStackTraceSizeToLog()));
-    }
+    log(CONSOLE_LOG_LEVEL.TRACE, this.log, msg, null, null);
+    logCurrentStackTrace(CONSOLE_LOG_LEVEL.TRACE);
   }
 
   @Override
-  public synchronized void trace(String format, Object... arguments) {
+  public void trace(String format, Object... arguments) {
     if (!isTraceEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] TRACE %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), format(format, arguments));
-    if (printStackTrace()) {
-      log.format(
-          "%s [%s] TRACE %s %s\n",
-          currentTimestamp(),
-          Thread.currentThread().getName(),
-          getName(),
-          LoggerHelper.currentStackTrace(maxStackTraceSizeToLog()));
-    }
+    log(
+        CONSOLE_LOG_LEVEL.TRACE,
+        this.log,
+        format,
+        arguments == null ? new Object[0] : arguments,
+        null);
+    logCurrentStackTrace(CONSOLE_LOG_LEVEL.TRACE);
   }
 
   @Override
-  public synchronized void trace(String msg, Throwable t) {
+  public void trace(String msg, Throwable t) {
     if (!isTraceEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] TRACE %s %s - %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg, t);
-    t.printStackTrace(this.log);
+    log(CONSOLE_LOG_LEVEL.TRACE, this.log, msg, null, t);
   }
 
   @Override
@@ -116,34 +148,32 @@ public class ConsoleLogger implements Logger {
   }
 
   @Override
-  public synchronized void debug(String msg) {
+  public void debug(String msg) {
     if (!isDebugEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] DEBUG %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg);
+    log(CONSOLE_LOG_LEVEL.DEBUG, this.log, msg, null, null);
   }
 
   @Override
-  public synchronized void debug(String format, Object... arguments) {
+  public void debug(String format, Object... arguments) {
     if (!isDebugEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] DEBUG %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), format(format, arguments));
+    log(
+        CONSOLE_LOG_LEVEL.DEBUG,
+        this.log,
+        format,
+        arguments == null ? new Object[0] : arguments,
+        null);
   }
 
   @Override
-  public synchronized void debug(String msg, Throwable t) {
+  public void debug(String msg, Throwable t) {
     if (!isDebugEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] DEBUG %s %s - %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg, t);
-    t.printStackTrace(this.log);
+    log(CONSOLE_LOG_LEVEL.DEBUG, this.log, msg, null, t);
   }
 
   @Override
@@ -152,34 +182,32 @@ public class ConsoleLogger implements Logger {
   }
 
   @Override
-  public synchronized void info(String msg) {
+  public void info(String msg) {
     if (!isInfoEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] INFO %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg);
+    log(CONSOLE_LOG_LEVEL.INFO, this.log, msg, null, null);
   }
 
   @Override
-  public synchronized void info(String format, Object... arguments) {
+  public void info(String format, Object... arguments) {
     if (!isInfoEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] INFO %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), format(format, arguments));
+    log(
+        CONSOLE_LOG_LEVEL.INFO,
+        this.log,
+        format,
+        arguments == null ? new Object[0] : arguments,
+        null);
   }
 
   @Override
-  public synchronized void info(String msg, Throwable t) {
+  public void info(String msg, Throwable t) {
     if (!isInfoEnabled()) {
       return;
     }
-    this.log.format(
-        "%s [%s] INFO %s %s - %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg, t);
-    t.printStackTrace(this.log);
+    log(CONSOLE_LOG_LEVEL.INFO, this.log, msg, null, t);
   }
 
   @Override
@@ -188,34 +216,32 @@ public class ConsoleLogger implements Logger {
   }
 
   @Override
-  public synchronized void warn(String msg) {
+  public void warn(String msg) {
     if (!isWarnEnabled()) {
       return;
     }
-    this.err.format(
-        "%s [%s] WARN %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg);
+    log(CONSOLE_LOG_LEVEL.WARN, this.err, msg, null, null);
   }
 
   @Override
-  public synchronized void warn(String format, Object... arguments) {
+  public void warn(String format, Object... arguments) {
     if (!isWarnEnabled()) {
       return;
     }
-    this.err.format(
-        "%s [%s] WARN %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), format(format, arguments));
+    log(
+        CONSOLE_LOG_LEVEL.WARN,
+        this.err,
+        format,
+        arguments == null ? new Object[0] : arguments,
+        null);
   }
 
   @Override
-  public synchronized void warn(String msg, Throwable t) {
+  public void warn(String msg, Throwable t) {
     if (!isWarnEnabled()) {
       return;
     }
-    this.err.format(
-        "%s [%s] WARN %s %s - %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg, t);
-    t.printStackTrace(this.err);
+    log(CONSOLE_LOG_LEVEL.WARN, this.err, msg, null, t);
   }
 
   @Override
@@ -224,39 +250,92 @@ public class ConsoleLogger implements Logger {
   }
 
   @Override
-  public synchronized void error(String msg) {
+  public void error(String msg) {
     if (!isErrorEnabled()) {
       return;
     }
-    this.err.format(
-        "%s [%s] ERROR %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg);
+    log(CONSOLE_LOG_LEVEL.ERROR, this.err, msg, null, null);
   }
 
   @Override
-  public synchronized void error(String format, Object... arguments) {
+  public void error(String format, Object... arguments) {
     if (!isErrorEnabled()) {
       return;
     }
-    this.err.format(
-        "%s [%s] ERROR %s %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), format(format, arguments));
+    log(
+        CONSOLE_LOG_LEVEL.ERROR,
+        this.err,
+        format,
+        arguments == null ? new Object[0] : arguments,
+        null);
   }
 
   @Override
-  public synchronized void error(String msg, Throwable t) {
+  public void error(String msg, Throwable t) {
     if (!isErrorEnabled()) {
       return;
     }
-    this.err.format(
-        "%s [%s] ERROR %s %s - %s\n",
-        currentTimestamp(), Thread.currentThread().getName(), getName(), msg, t);
-    t.printStackTrace(this.err);
+    log(CONSOLE_LOG_LEVEL.ERROR, this.err, msg, null, t);
   }
 
-  private static String currentTimestamp() {
-    ZonedDateTime zdt = ZonedDateTime.now();
-    return zdt.format(FORMATTER);
+  /**
+   * Wait for entries logged in asynchronous mode before this call to be written.
+   *
+   * @param timeoutMillis maximum waiting time in milliseconds
+   */
+  public static void flush(long timeoutMillis) {
+    AsyncLogWriter.instance().flush(timeoutMillis);
+  }
+
+  /**
+   * Append a complete log entry, including throwable stack trace if any.
+   *
+   * @param sb destination
+   * @param millis entry time
+   * @param threadName logging thread name
+   * @param level log level
+   * @param name logger name
+   * @param msg message, or message format if arguments are set
+   * @param arguments message arguments, or null
+   * @param throwable throwable, or null
+   */
+  static void appendEntry(
+      StringBuilder sb,
+      long millis,
+      String threadName,
+      CONSOLE_LOG_LEVEL level,
+      String name,
+      String msg,
+      Object[] arguments,
+      Throwable throwable) {
+    FORMATTER.formatTo(
+        ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()), sb);
+    sb.append(" [").append(threadName).append("] ").append(level.name()).append(' ');
+    sb.append(name).append(' ');
+    if (arguments == null || msg == null) {
+      sb.append(msg);
+    } else {
+      appendFormatted(sb, msg, arguments);
+    }
+    if (throwable != null) {
+      sb.append(" - ").append(throwable).append('\n');
+      StringWriter sw = new StringWriter();
+      throwable.printStackTrace(new PrintWriter(sw));
+      sb.append(sw.getBuffer());
+    } else {
+      sb.append('\n');
+    }
+  }
+
+  private static void appendFormatted(StringBuilder sb, String format, Object[] arguments) {
+    int start = 0;
+    for (Object argument : arguments) {
+      int idx = format.indexOf("{}", start);
+      if (idx < 0) break;
+      sb.append(format, start, idx).append(argument);
+      start = idx + 2;
+    }
+    sb.append(format, start, format.length());
   }
 
   public static enum CONSOLE_LOG_LEVEL {
@@ -291,6 +370,7 @@ public class ConsoleLogger implements Logger {
     private final String logFilePath;
     private final boolean printStackTrace;
     private final int maxPrintStackSizeToLog;
+    private final boolean async;
 
     public ConsoleLoggerKey(
         String name,
@@ -298,11 +378,22 @@ public class ConsoleLogger implements Logger {
         String logFilePath,
         boolean printStackTrace,
         int maxPrintStackSizeToLog) {
+      this(name, logLevel, logFilePath, printStackTrace, maxPrintStackSizeToLog, false);
+    }
+
+    public ConsoleLoggerKey(
+        String name,
+        CONSOLE_LOG_LEVEL logLevel,
+        String logFilePath,
+        boolean printStackTrace,
+        int maxPrintStackSizeToLog,
+        boolean async) {
       this.name = name;
       this.logLevel = logLevel;
       this.logFilePath = logFilePath;
       this.printStackTrace = printStackTrace;
       this.maxPrintStackSizeToLog = maxPrintStackSizeToLog;
+      this.async = async;
     }
 
     public boolean isPrintStackTrace() {
@@ -317,6 +408,10 @@ public class ConsoleLogger implements Logger {
       return logFilePath;
     }
 
+    public boolean isAsync() {
+      return async;
+    }
+
     @Override
     public boolean equals(Object o) {
       if (this == o) {
@@ -328,12 +423,13 @@ public class ConsoleLogger implements Logger {
       ConsoleLoggerKey that = (ConsoleLoggerKey) o;
       return Objects.equals(name, that.name)
           && logLevel == that.logLevel
-          && Objects.equals(logFilePath, that.logFilePath);
+          && Objects.equals(logFilePath, that.logFilePath)
+          && async == that.async;
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(name, logLevel, logFilePath);
+      return Objects.hash(name, logLevel, logFilePath, async);
     }
   }
 }
@@ -22,6 +22,7 @@ public final class Loggers {
   private static boolean printStackTrace;
   private static int maxPrintStackSizeToLog;
   private static String consoleLogFilepath;
+  private static boolean consoleLogAsync;
   private static PrintStream filePrintStream;
   public static final String FALLBACK_PROPERTY = "singlestore.logging.fallback";
   public static final String CONSOLE_DEBUG_PROPERTY = "singlestore.logging.fallback.console.debug";
@@ -96,7 +97,8 @@ public final class Loggers {
               getConsoleLogLevel(),
               getConsoleLogFilepath(),
               printStackTrace,
-              maxPrintStackSizeToLog);
+              maxPrintStackSizeToLog,
+              consoleLogAsync);
       synchronized (consoleLoggers) {
         final WeakReference<Logger> ref = consoleLoggers.get(key);
         Logger cached = ref == null ? null : ref.get();
@@ -111,7 +113,22 @@ public final class Loggers {
 
   public static void resetLoggerFactoryProperties(
       String level, String path, boolean printTrace, int maxPrintStackSize) {
+    resetLoggerFactoryProperties(level, path, printTrace, maxPrintStackSize, false);
+  }
+
+  /**
+   * Reset logger factory.
+   *
+   * @param level console log level, or null
+   * @param path console log file path, or null
+   * @param printTrace print current stack trace with TRACE entries
+   * @param maxPrintStackSize maximum number of stack trace lines to print
+   * @param async console entries are written by a background thread
+   */
+  public static void resetLoggerFactoryProperties(
+      String level, String path, boolean printTrace, int maxPrintStackSize, boolean async) {
     synchronized (Loggers.class) {
+      consoleLogAsync = async;
       printStackTrace = printTrace;
       maxPrintStackSizeToLog = maxPrintStackSize;
       slf4jEnabled = level == null && path == null;
@@ -2,6 +2,7 @@ package com.singlestore.jdbc.util.vector;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 
 public class Float32VectorBinaryParser extends Float32VectorParser {
 
@@ -11,19 +12,26 @@ public class Float32VectorBinaryParser extends Float32VectorParser {
 
   @Override
   public float[] parseDefault(byte[] data, int length) {
+    float[] floats = new float[length];
+    asFloatBuffer(data, length).get(floats);
+    return floats;
+  }
+
+  /**
+   * Read-only float view on little-endian packed data, without any copy.
+   *
+   * @param data packed data
+   * @param length number of floats
+   * @return float buffer
+   */
+  public FloatBuffer asFloatBuffer(byte[] data, int length) {
     if (data.length != length * Float.BYTES) {
       throw new IllegalStateException(
           String.format(
               "Expected byte array of length %d (for %d F32), but got %d bytes.",
               length * Float.BYTES, length, data.length));
     }
-    float[] floats = new float[length];
-    ByteBuffer buffer = ByteBuffer.wrap(data);
-    buffer.order(ByteOrder.LITTLE_ENDIAN);
-    for (int i = 0; i < length; i++) {
-      floats[i] = buffer.getFloat();
-    }
-    return floats;
+    return ByteBuffer.wrap(data).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
   }
 
   @Override
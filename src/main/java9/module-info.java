@@ -13,6 +13,7 @@ module com.singlestore.jdbc {
   requires static com.sun.jna;
   requires static com.sun.jna.platform;
   requires static org.slf4j;
+  requires static micrometer.core;
 
   exports com.singlestore.jdbc;
   exports com.singlestore.jdbc.client;
@@ -31,12 +32,16 @@ module com.singlestore.jdbc {
   exports com.singlestore.jdbc.plugin.credential.env;
   exports com.singlestore.jdbc.plugin.credential.system;
   exports com.singlestore.jdbc.plugin.tls.main;
+  exports com.singlestore.jdbc.plugin.metrics.micrometer;
+  exports com.singlestore.jdbc.pool;
 
   uses java.sql.Driver;
   uses com.singlestore.jdbc.plugin.CredentialPlugin;
   uses com.singlestore.jdbc.plugin.Codec;
   uses com.singlestore.jdbc.plugin.AuthenticationPluginFactory;
   uses com.singlestore.jdbc.plugin.TlsSocketPlugin;
+  uses com.singlestore.jdbc.plugin.PoolMetricsPlugin;
+  uses com.singlestore.jdbc.plugin.QueryListener;
 
   provides java.sql.Driver with
       com.singlestore.jdbc.Driver;
@@ -88,4 +93,6 @@ module com.singlestore.jdbc {
       com.singlestore.jdbc.plugin.credential.system.PropertiesCredentialPlugin;
   provides com.singlestore.jdbc.plugin.TlsSocketPlugin with
       com.singlestore.jdbc.plugin.tls.main.DefaultTlsSocketPlugin;
+  provides com.singlestore.jdbc.plugin.PoolMetricsPlugin with
+      com.singlestore.jdbc.plugin.metrics.micrometer.MicrometerPoolMetricsPlugin;
 }
@@ -326,6 +326,38 @@ public class BatchTest extends Common {
     assertFalse(rs.next());
   }
 
+  @Test
+  public void rewriteBatchChunkSize() throws SQLException {
+    for (String compression : new String[] {"false", "true"}) {
+      try (Connection con =
+          createCon(
+              "&rewriteBatchedStatements=true&rewriteBatchChunkSize=1024&useCompression="
+                  + compression)) {
+        Statement stmt = con.createStatement();
+        stmt.execute("TRUNCATE BatchTest");
+        try (PreparedStatement prep =
+            con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+          for (int i = 1; i <= 1000; i++) {
+            prep.setInt(1, i);
+            prep.setString(2, "value'" + i);
+            prep.addBatch();
+          }
+          int[] res = prep.executeBatch();
+          assertEquals(1000, res.length);
+          assertEquals(Statement.SUCCESS_NO_INFO, res[0]);
+        }
+
+        ResultSet rs = stmt.executeQuery("SELECT * FROM BatchTest ORDER BY t1");
+        for (int i = 1; i <= 1000; i++) {
+          assertTrue(rs.next());
+          assertEquals(i, rs.getInt(1));
+          assertEquals("value'" + i, rs.getString(2));
+        }
+        assertFalse(rs.next());
+      }
+    }
+  }
+
   @Test
   public void largeBatchWithRewrite() throws SQLException {
     for (int i = 0; i < 8; i++) {
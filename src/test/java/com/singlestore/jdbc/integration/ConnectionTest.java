@@ -15,7 +15,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.integration.tools.ProxyTunnelServer;
+import com.singlestore.jdbc.integration.util.RecordingQueryListener;
 import com.singlestore.jdbc.integration.util.SocketFactoryTest;
+import com.singlestore.jdbc.plugin.QueryEvent;
 import com.singlestore.jdbc.util.constants.Capabilities;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -174,6 +176,26 @@ public class ConnectionTest extends Common {
     }
   }
 
+  @Test
+  public void queryListener() throws SQLException {
+    try (Connection con = createCon("&queryListenerType=RECORDING")) {
+      RecordingQueryListener.EVENTS.clear();
+      Statement stmt = con.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT 1 UNION ALL SELECT 2");
+      assertTrue(rs.next());
+      QueryEvent event = null;
+      for (QueryEvent e : RecordingQueryListener.EVENTS) {
+        if ("SELECT 1 UNION ALL SELECT 2".equals(e.getSql())) event = e;
+      }
+      assertTrue(event != null);
+      assertEquals(2, event.getRows());
+      assertNull(event.getError());
+      assertTrue(event.getBytesSent() > 0);
+      assertTrue(event.getBytesReceived() > 0);
+      assertTrue(event.getTotalTime() >= event.getTimeToFirstByte());
+    }
+  }
+
   @Test
   public void nativeSQL() throws SQLException {
     String[] inputs =
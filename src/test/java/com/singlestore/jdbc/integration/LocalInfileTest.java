@@ -5,8 +5,10 @@
 
 package com.singlestore.jdbc.integration;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedWriter;
@@ -22,7 +24,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
@@ -37,6 +45,7 @@ public class LocalInfileTest extends Common {
     stmt.execute("CREATE TABLE LocalInfileInputStreamTest2(id int, test varchar(100))");
     stmt.execute("CREATE TABLE ttlocal(id int, test varchar(100))");
     stmt.execute("CREATE TABLE ldinfile(a varchar(10))");
+    stmt.execute("CREATE TABLE bulk_load(id int, t varchar(100), b blob, d datetime(6))");
     stmt.execute(
         "CREATE TABLE `infile`(`a` varchar(50) DEFAULT NULL, `b` varchar(50) DEFAULT NULL)");
     stmt.execute(
@@ -55,6 +64,7 @@ public class LocalInfileTest extends Common {
     stmt.execute("DROP TABLE IF EXISTS LocalInfileInputStreamTest2");
     stmt.execute("DROP TABLE IF EXISTS ttlocal");
     stmt.execute("DROP TABLE IF EXISTS ldinfile");
+    stmt.execute("DROP TABLE IF EXISTS bulk_load");
     stmt.execute("DROP TABLE IF EXISTS `infile`");
     stmt.execute("DROP TABLE IF EXISTS big_load_data_infile");
     stmt.execute("DROP TABLE IF EXISTS small_load_data_infile");
@@ -69,6 +79,114 @@ public class LocalInfileTest extends Common {
     return false;
   }
 
+  @Test
+  public void bulkLoad() throws SQLException {
+    Assumptions.assumeTrue(checkLocal());
+    try (Connection connection = createCon("&allowLocalInfile=true")) {
+      com.singlestore.jdbc.Connection con =
+          connection.unwrap(com.singlestore.jdbc.Connection.class);
+      List<Object[]> rows = new ArrayList<>();
+      Timestamp ts = Timestamp.valueOf("2020-01-02 03:04:05.6");
+      rows.add(new Object[] {1, "a'b\tc\nd\\e😎", new byte[] {0, 1, '\''}, ts});
+      rows.add(new Object[] {2, null, null, null});
+      for (int i = 3; i <= 10000; i++) {
+        rows.add(new Object[] {i, "value " + i, null, null});
+      }
+      assertEquals(10000, con.bulkLoad("bulk_load", new String[] {"id", "t", "b", "d"}, rows));
+
+      Statement stmt = connection.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT * FROM bulk_load WHERE id <= 2 ORDER BY id");
+      assertTrue(rs.next());
+      assertEquals("a'b\tc\nd\\e😎", rs.getString(2));
+      assertArrayEquals(new byte[] {0, 1, '\''}, rs.getBytes(3));
+      assertEquals(ts, rs.getTimestamp(4));
+      assertTrue(rs.next());
+      assertNull(rs.getString(2));
+      assertNull(rs.getBytes(3));
+      assertFalse(rs.next());
+      rs = stmt.executeQuery("SELECT count(*) FROM bulk_load");
+      assertTrue(rs.next());
+      assertEquals(10000, rs.getInt(1));
+
+      // wrong value number
+      assertThrowsContains(
+          SQLException.class,
+          () ->
+              con.bulkLoad(
+                  "bulk_load", new String[] {"id"}, Collections.singletonList(new Object[] {1, 2})),
+          "Row 1 has 2 values, expected 1");
+      rs = stmt.executeQuery("SELECT count(*) FROM bulk_load");
+      assertTrue(rs.next());
+      assertEquals(10000, rs.getInt(1));
+    }
+
+    try (Connection connection = createCon("&allowLocalInfile=false")) {
+      assertThrowsContains(
+          SQLException.class,
+          () ->
+              connection
+                  .unwrap(com.singlestore.jdbc.Connection.class)
+                  .bulkLoad("bulk_load", null, Collections.emptyList()),
+          "Enable `allowLocalInfile` to use bulk load");
+    }
+  }
+
+  @Test
+  public void bulkLoadUserDataError() throws SQLException {
+    Assumptions.assumeTrue(checkLocal());
+    try (Connection connection = createCon("&allowLocalInfile=true")) {
+      com.singlestore.jdbc.Connection con =
+          connection.unwrap(com.singlestore.jdbc.Connection.class);
+      Statement stmt = connection.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT count(*) FROM bulk_load");
+      assertTrue(rs.next());
+      int initialCount = rs.getInt(1);
+
+      // iterator failure
+      Iterator<Object[]> failingRows =
+          new Iterator<Object[]>() {
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+              return true;
+            }
+
+            @Override
+            public Object[] next() {
+              if (++row > 2) throw new NoSuchElementException("iterator failure");
+              return new Object[] {100_000 + row};
+            }
+          };
+      assertThrowsContains(
+          SQLException.class,
+          () -> con.bulkLoad("bulk_load", new String[] {"id"}, failingRows),
+          "iterator failure");
+
+      // stream failure
+      InputStream failingStream =
+          new InputStream() {
+            @Override
+            public int read() throws IOException {
+              throw new IOException("stream failure");
+            }
+          };
+      assertThrowsContains(
+          SQLException.class,
+          () ->
+              con.bulkLoad(
+                  "bulk_load",
+                  new String[] {"id", "b"},
+                  Collections.singletonList(new Object[] {100_010, failingStream})),
+          "stream failure");
+
+      // LOCAL INFILE exchange has been terminated: connection is still usable
+      rs = stmt.executeQuery("SELECT count(*) FROM bulk_load");
+      assertTrue(rs.next());
+      assertEquals(initialCount, rs.getInt(1));
+    }
+  }
+
   @Test
   public void smallLoadDataInfileTest() throws SQLException, IOException {
 
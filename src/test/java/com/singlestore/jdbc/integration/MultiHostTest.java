@@ -11,9 +11,12 @@ import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.Connection;
 import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.Statement;
+import com.singlestore.jdbc.client.impl.AggregatorDiscovery;
+import com.singlestore.jdbc.client.impl.HostHealthProber;
 import com.singlestore.jdbc.export.SslMode;
 import com.singlestore.jdbc.integration.tools.TcpProxy;
 import java.io.IOException;
+import java.net.ServerSocket;
 import java.sql.*;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -67,6 +70,89 @@ public class MultiHostTest extends Common {
     testClosedConn(con);
   }
 
+  @Test
+  public void raceConnect() throws Exception {
+    Configuration conf = Configuration.parse(mDefUrl);
+    HostAddress hostAddress = conf.addresses().get(0);
+    // server accepting connections, but never answering
+    try (ServerSocket unresponsive = new ServerSocket(0)) {
+      String url =
+          mDefUrl.replaceAll(
+              "//([^/]*)/",
+              String.format(
+                  "//address=(host=localhost)(port=%s),address=(host=%s)(port=%s)/",
+                  unresponsive.getLocalPort(), hostAddress.host, hostAddress.port));
+      url = url.replaceAll("jdbc:singlestore:", "jdbc:singlestore:sequential:");
+      if (conf.sslMode() == SslMode.VERIFY_FULL) {
+        url = url.replaceAll("sslMode=verify-full", "sslMode=verify-ca");
+      }
+
+      long start = System.currentTimeMillis();
+      try (java.sql.Connection con =
+          DriverManager.getConnection(url + "&connectTimeout=10000&connectRaceDelay=100")) {
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+        assertTrue(rs.next());
+      }
+    }
+  }
+
+  @Test
+  public void healthCheck() throws Exception {
+    Configuration conf = Configuration.parse(mDefUrl);
+    HostAddress hostAddress = conf.addresses().get(0);
+    int closedPort;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      closedPort = socket.getLocalPort();
+    }
+    String url =
+        mDefUrl.replaceAll(
+            "//([^/]*)/",
+            String.format(
+                "//address=(host=localhost)(port=%s),address=(host=%s)(port=%s)/",
+                closedPort, hostAddress.host, hostAddress.port));
+    url = url.replaceAll("jdbc:singlestore:", "jdbc:singlestore:sequential:");
+    if (conf.sslMode() == SslMode.VERIFY_FULL) {
+      url = url.replaceAll("sslMode=verify-full", "sslMode=verify-ca");
+    }
+
+    try (java.sql.Connection con = DriverManager.getConnection(url + "&healthCheckInterval=100")) {
+      ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+      assertTrue(rs.next());
+    }
+    Thread.sleep(500);
+    assertTrue(HostHealthProber.isDown(HostAddress.from("localhost", closedPort)));
+    assertFalse(HostHealthProber.isDown(hostAddress));
+  }
+
+  @Test
+  public void aggregatorDiscovery() throws Exception {
+    Configuration conf = Configuration.parse(mDefUrl);
+    HostAddress hostAddress = conf.addresses().get(0);
+    String url = mDefUrl.replaceAll("jdbc:singlestore:", "jdbc:singlestore:loadbalance:");
+    if (conf.sslMode() == SslMode.VERIFY_FULL) {
+      url = url.replaceAll("sslMode=verify-full", "sslMode=verify-ca");
+    }
+    url += "&discoveryInterval=100";
+
+    try (java.sql.Connection con = DriverManager.getConnection(url)) {
+      ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+      assertTrue(rs.next());
+    }
+    Thread.sleep(500);
+    Configuration discoveryConf = Configuration.parse(url);
+    // aggregators have been listed
+    assertTrue(AggregatorDiscovery.refreshCount(discoveryConf) > 0);
+    assertTrue(AggregatorDiscovery.addresses(discoveryConf).contains(hostAddress));
+    assertFalse(AggregatorDiscovery.isRemoved(discoveryConf, hostAddress));
+    for (int i = 0; i < 10; i++) {
+      try (java.sql.Connection con = DriverManager.getConnection(url)) {
+        ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+        assertTrue(rs.next());
+      }
+    }
+  }
+
   private void testClosedConn(Connection con) throws SQLException {
     PreparedStatement prep = con.prepareStatement("SELECT ?");
     PreparedStatement prep2 = con.prepareStatement("SELECT 1, ?");
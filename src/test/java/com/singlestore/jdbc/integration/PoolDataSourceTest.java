@@ -8,6 +8,7 @@ package com.singlestore.jdbc.integration;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.singlestore.jdbc.SingleStorePoolDataSource;
+import com.singlestore.jdbc.integration.util.CountingPoolMetricsPlugin;
 import com.singlestore.jdbc.pool.PoolThreadFactory;
 import com.singlestore.jdbc.pool.Pools;
 import java.lang.management.ManagementFactory;
@@ -487,6 +488,101 @@ public class PoolDataSourceTest extends Common {
     }
   }
 
+  @Test
+  public void testParallelCreation() throws Throwable {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName filter = new ObjectName("com.singlestore.jdbc.pool:type=testParallelCreation-*");
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl
+                + "&maxPoolSize=8&minPoolSize=5&poolCreationThreads=4&poolName=testParallelCreation")) {
+      // wait to ensure pool has time to create minimal connection number
+      Thread.sleep(1_000);
+
+      Set<ObjectName> objectNames = server.queryNames(filter, null);
+      ObjectName name = objectNames.iterator().next();
+      checkJmxInfo(server, name, 0, 5, 5, 0);
+
+      try (Connection connection = pool.getConnection()) {
+        connection.isValid(1);
+        checkJmxInfo(server, name, 1, 5, 4, 0);
+      }
+      checkJmxInfo(server, name, 0, 5, 5, 0);
+    }
+  }
+
+  @Test
+  public void testIdleValidation() throws Throwable {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName filter = new ObjectName("com.singlestore.jdbc.pool:type=testIdleValidation-*");
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl
+                + "&maxPoolSize=3&minPoolSize=3&poolIdleValidationInterval=100"
+                + "&poolName=testIdleValidation")) {
+      // wait to ensure pool has time to create minimal connection number
+      Thread.sleep(1_000);
+
+      Set<ObjectName> objectNames = server.queryNames(filter, null);
+      ObjectName name = objectNames.iterator().next();
+      checkJmxInfo(server, name, 0, 3, 3, 0);
+
+      // idle connection killed by server must be replaced without any borrower
+      List<Long> initialThreadIds = pool.testGetConnectionIdleThreadIds();
+      sharedConn.createStatement().execute("KILL CONNECTION " + initialThreadIds.get(0));
+      Thread.sleep(1_000);
+
+      checkJmxInfo(server, name, 0, 3, 3, 0);
+      assertFalse(pool.testGetConnectionIdleThreadIds().contains(initialThreadIds.get(0)));
+    }
+  }
+
+  @Test
+  public void testMetrics() throws Throwable {
+    String poolName;
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl + "&maxPoolSize=2&poolMetricsType=COUNTING&poolName=testMetrics")) {
+      poolName = pool.getPoolName();
+      for (int i = 0; i < 3; i++) {
+        try (Connection connection = pool.getConnection()) {
+          connection.isValid(1);
+        }
+      }
+      assertTrue(CountingPoolMetricsPlugin.count(poolName, "created") >= 1);
+      assertEquals(3, CountingPoolMetricsPlugin.count(poolName, "acquired"));
+      assertEquals(3, CountingPoolMetricsPlugin.count(poolName, "used"));
+      assertEquals(3, CountingPoolMetricsPlugin.count(poolName, "reset"));
+      assertEquals(0, CountingPoolMetricsPlugin.count(poolName, "timeout"));
+    }
+    assertTrue(CountingPoolMetricsPlugin.count(poolName, "removed.POOL_CLOSED") >= 1);
+    assertEquals(1, CountingPoolMetricsPlugin.count(poolName, "closed"));
+  }
+
+  @Test
+  public void testMetricsUnnamedPools() throws Throwable {
+    Set<String> initialNames = new HashSet<>(CountingPoolMetricsPlugin.POOLS.keySet());
+    try (SingleStorePoolDataSource pool1 =
+            new SingleStorePoolDataSource(mDefUrl + "&maxPoolSize=2&poolMetricsType=COUNTING");
+        SingleStorePoolDataSource pool2 =
+            new SingleStorePoolDataSource(mDefUrl + "&maxPoolSize=3&poolMetricsType=COUNTING")) {
+      try (Connection connection = pool1.getConnection()) {
+        connection.isValid(1);
+      }
+      try (Connection connection = pool2.getConnection()) {
+        connection.isValid(1);
+      }
+      // each pool has its own metrics
+      Set<String> names = new HashSet<>(CountingPoolMetricsPlugin.POOLS.keySet());
+      names.removeAll(initialNames);
+      assertEquals(2, names.size());
+      for (String name : names) {
+        assertTrue(name.startsWith("SingleStore-pool-"));
+        assertEquals(1, CountingPoolMetricsPlugin.count(name, "acquired"));
+      }
+    }
+  }
+
   private void checkJmxInfo(
       MBeanServer server,
       ObjectName name,
@@ -540,6 +636,43 @@ public class PoolDataSourceTest extends Common {
     }
   }
 
+  @Test
+  public void testAsyncReset() throws SQLException {
+    testAsyncReset(false);
+    if (minVersion(7, 5, 2)) {
+      testAsyncReset(true);
+    }
+  }
+
+  private void testAsyncReset(boolean useResetConnection) throws SQLException {
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl
+                + "&maxPoolSize=1&poolAsyncReset&useResetConnection="
+                + useResetConnection)) {
+      try (Connection connection = pool.getConnection()) {
+        Statement statement = connection.createStatement();
+        statement.execute("CREATE DATABASE IF NOT EXISTS testingAsyncReset");
+        connection.setCatalog("testingAsyncReset");
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        connection.setNetworkTimeout(null, 1_000);
+      }
+
+      // connection is given back to pool only once reset
+      for (int i = 0; i < 10; i++) {
+        try (Connection connection = pool.getConnection()) {
+          assertEquals(sharedConn.getCatalog(), connection.getCatalog());
+          assertTrue(connection.getAutoCommit());
+          assertFalse(connection.isReadOnly());
+          assertEquals(sharedConn.getNetworkTimeout(), connection.getNetworkTimeout());
+          connection.setAutoCommit(false);
+        }
+      }
+      sharedConn.createStatement().execute("DROP DATABASE testingAsyncReset");
+    }
+  }
+
   @Test
   public void ensureUsingPool() throws Exception {
     ThreadPoolExecutor connectionAppender =
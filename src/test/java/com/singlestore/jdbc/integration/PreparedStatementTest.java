@@ -10,8 +10,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.Connection;
 import com.singlestore.jdbc.Statement;
+import com.singlestore.jdbc.export.HaMode;
+import com.singlestore.jdbc.export.SslMode;
+import java.io.ByteArrayInputStream;
 import java.sql.BatchUpdateException;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
@@ -98,6 +102,66 @@ public class PreparedStatementTest extends Common {
     try (Connection con = createCon("&useServerPrepStmts")) {
       execute(con);
     }
+    try (Connection con = createCon("&useServerPrepStmts&pipelinePrepare")) {
+      execute(con);
+    }
+  }
+
+  @Test
+  public void pipelinePrepareError() throws SQLException {
+    try (Connection con = createCon("&useServerPrepStmts&pipelinePrepare")) {
+      try (PreparedStatement preparedStatement =
+          con.prepareStatement("INSERT INTO unknownPrepareTable(t1) VALUES (?)")) {
+        preparedStatement.setInt(1, 5);
+        SQLException e = assertThrows(SQLException.class, preparedStatement::executeUpdate);
+        assertFalse(e instanceof BatchUpdateException);
+        assertTrue(e.getMessage().contains("unknownPrepareTable"), e.getMessage());
+      }
+
+      // connection state must not be affected
+      try (PreparedStatement preparedStatement =
+          con.prepareStatement("SELECT * FROM prepare1 WHERE t1 > ?")) {
+        preparedStatement.setInt(1, 0);
+        preparedStatement.executeQuery();
+      }
+      ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+      assertTrue(rs.next());
+      assertEquals(1, rs.getInt(1));
+    }
+  }
+
+  @Test
+  public void pipelinePrepareFallback() throws SQLException {
+    // proxy must read commands
+    Configuration conf = Configuration.parse(mDefUrl);
+    Assumptions.assumeTrue(conf.sslMode() == SslMode.DISABLE && !conf.useCompression());
+    // proxy makes server reject execution of last prepared statement (statement id -1)
+    byte[] executeLast = new byte[] {0x17, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0};
+    byte[] executeUnknown =
+        new byte[] {0x17, (byte) 0xfe, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0};
+
+    try (Connection con = createProxyCon(HaMode.NONE, "&useServerPrepStmts&pipelinePrepare")) {
+      proxy.replaceRequestBytes(executeLast, executeUnknown);
+      // stream parameter is not pipelined, since it can't be sent again
+      try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+        prep.setBinaryStream(1, new ByteArrayInputStream("streamed".getBytes()));
+        ResultSet rs = prep.executeQuery();
+        assertTrue(rs.next());
+        assertEquals("streamed", rs.getString(1));
+      }
+
+      // statement is prepared again, then executed
+      try (PreparedStatement prep = con.prepareStatement("SELECT ? + 1")) {
+        prep.setInt(1, 5);
+        ResultSet rs = prep.executeQuery();
+        assertTrue(rs.next());
+        assertEquals(6, rs.getInt(1));
+      }
+
+      ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+      assertTrue(rs.next());
+      assertEquals(1, rs.getInt(1));
+    }
   }
 
   private void execute(Connection conn) throws SQLException {
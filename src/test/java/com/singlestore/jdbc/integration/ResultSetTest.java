@@ -219,6 +219,37 @@ public class ResultSetTest extends Common {
         SQLException.class, () -> rs.isBeforeFirst(), "Operation not permit on a closed resultSet");
   }
 
+  @Test
+  public void randomColumnAccess() throws SQLException {
+    randomColumnAccess(sharedConn);
+    randomColumnAccess(sharedConnBinary);
+  }
+
+  private void randomColumnAccess(java.sql.Connection con) throws SQLException {
+    try (PreparedStatement prep =
+        con.prepareStatement(
+            "SELECT t1, NULL as n, t2, REPEAT('a', 300) as s, t1 + 100 as t3 FROM resultsettest"
+                + " WHERE t1 < ? ORDER BY t1")) {
+      prep.setInt(1, 4);
+      ResultSet rs = prep.executeQuery();
+      for (int i = 1; i <= 3; i++) {
+        assertTrue(rs.next());
+        // reverse order, then non sequential access on the same row
+        assertEquals(i + 100, rs.getInt(5));
+        assertEquals(300, rs.getString(4).length());
+        assertEquals(i, rs.getInt(3));
+        assertNull(rs.getString(2));
+        assertTrue(rs.wasNull());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i + 100, rs.getInt("t3"));
+        assertEquals(i, rs.getInt("t2"));
+        assertNull(rs.getString("n"));
+        assertEquals(i, rs.getInt("t1"));
+      }
+      assertFalse(rs.next());
+    }
+  }
+
   @Test
   public void testAliases() throws SQLException {
     Statement stmt = sharedConn.createStatement();
@@ -253,4 +284,102 @@ public class ResultSetTest extends Common {
     assertEquals(1, rs.getInt("t2"));
     assertEquals(1, rs.getInt("resultsettest.t2"));
   }
+
+  @Test
+  public void resultChunkSize() throws SQLException {
+    // small chunk size, forcing rows to be spread over multiple chunks
+    try (Connection con = createCon("&resultChunkSize=16")) {
+      resultChunkSize(
+          con.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY));
+      resultChunkSize(
+          con.prepareStatement(
+              "SELECT t1, t2 FROM resultsettest order by t1",
+              ResultSet.TYPE_SCROLL_INSENSITIVE,
+              ResultSet.CONCUR_READ_ONLY));
+    }
+  }
+
+  private void resultChunkSize(java.sql.Statement stmt) throws SQLException {
+    ResultSet rs =
+        stmt instanceof PreparedStatement
+            ? ((PreparedStatement) stmt).executeQuery()
+            : stmt.executeQuery("SELECT t1, t2 FROM resultsettest order by t1");
+    for (int i = 1; i <= 8; i++) {
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+      assertEquals(i, rs.getInt(2));
+    }
+    assertFalse(rs.next());
+    assertTrue(rs.absolute(5));
+    assertEquals(5, rs.getInt("t2"));
+    assertTrue(rs.previous());
+    assertEquals(4, rs.getInt(2));
+    assertTrue(rs.last());
+    assertEquals(8, rs.getInt(1));
+    assertTrue(rs.first());
+    assertEquals(1, rs.getInt(1));
+
+    stmt.setMaxRows(3);
+    rs =
+        stmt instanceof PreparedStatement
+            ? ((PreparedStatement) stmt).executeQuery()
+            : stmt.executeQuery("SELECT t1, t2 FROM resultsettest order by t1");
+    assertTrue(rs.last());
+    assertEquals(3, rs.getRow());
+  }
+
+  @Test
+  public void readBufferSize() throws SQLException {
+    // minimum buffer size, rows with a 5000 bytes value not fitting in buffer
+    for (String opts :
+        new String[] {"&readBufferSize=1024", "&readBufferSize=1024&resultChunkSize=64"}) {
+      try (Connection con = createCon(opts)) {
+        resultChunkSize(
+            con.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY));
+        java.sql.Statement stmt = con.createStatement();
+        ResultSet rs =
+            stmt.executeQuery("SELECT REPEAT('a', 5000), t1 FROM resultsettest order by t1");
+        for (int i = 1; i <= 8; i++) {
+          assertTrue(rs.next());
+          assertEquals(5000, rs.getString(1).length());
+          assertEquals(i, rs.getInt(2));
+        }
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  public void streamingPrefetch() throws SQLException {
+    // small size, so background read stops before end of batch
+    try (Connection con = createCon("&streamingPrefetchSize=10")) {
+      java.sql.Statement stmt = con.createStatement();
+      stmt.setFetchSize(3);
+      ResultSet rs = stmt.executeQuery("SELECT t1, t2 FROM resultsettest order by t1");
+      for (int i = 1; i <= 8; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+      assertFalse(rs.next());
+
+      // another command while prefetching must read remaining rows first
+      rs = stmt.executeQuery("SELECT t1, t2 FROM resultsettest order by t1");
+      assertTrue(rs.next());
+      ResultSet rs2 = con.createStatement().executeQuery("SELECT 5");
+      assertTrue(rs2.next());
+      assertEquals(5, rs2.getInt(1));
+      for (int i = 2; i <= 8; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+      }
+      assertFalse(rs.next());
+
+      stmt.setMaxRows(4);
+      rs = stmt.executeQuery("SELECT t1, t2 FROM resultsettest order by t1");
+      for (int i = 1; i <= 4; i++) {
+        assertTrue(rs.next());
+      }
+      assertFalse(rs.next());
+    }
+  }
 }
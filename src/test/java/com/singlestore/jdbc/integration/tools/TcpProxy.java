@@ -42,6 +42,10 @@ public class TcpProxy {
     socket.setDelay(1);
   }
 
+  public void replaceRequestBytes(byte[] search, byte[] replacement) {
+    socket.replaceRequestBytes(search, replacement);
+  }
+
   /**
    * Stop proxy and restart after X milliseconds.
    *
@@ -26,6 +26,8 @@ public class TcpProxySocket implements Runnable {
   private Socket server = null;
   private ServerSocket ss;
   private int delay;
+  private volatile byte[] requestSearch;
+  private volatile byte[] requestReplacement;
 
   /**
    * Creation of proxy.
@@ -54,6 +56,28 @@ public class TcpProxySocket implements Runnable {
     this.delay = delay;
   }
 
+  /**
+   * Replace bytes sent to server. Searched bytes are only found when received in a single read.
+   *
+   * @param search searched bytes, null to stop replacing
+   * @param replacement replacement bytes, having searched bytes length
+   */
+  public void replaceRequestBytes(byte[] search, byte[] replacement) {
+    this.requestReplacement = replacement;
+    this.requestSearch = search;
+  }
+
+  private void replace(byte[] request, int length) {
+    byte[] search = requestSearch;
+    byte[] replacement = requestReplacement;
+    if (search == null) return;
+    for (int i = 0; i <= length - search.length; i++) {
+      int j = 0;
+      while (j < search.length && request[i + j] == search[j]) j++;
+      if (j == search.length) System.arraycopy(replacement, 0, request, i, search.length);
+    }
+  }
+
   /** Kill proxy. */
   public void kill(boolean rst) {
     stop = true;
@@ -157,6 +181,7 @@ public class TcpProxySocket implements Runnable {
                             e.printStackTrace();
                           }
                         }
+                        replace(request, bytesRead);
                         toServer.write(request, 0, bytesRead);
                         toServer.flush();
                       }
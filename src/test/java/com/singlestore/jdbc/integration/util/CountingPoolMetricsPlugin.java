@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.integration.util;
+
+import com.singlestore.jdbc.plugin.PoolMetrics;
+import com.singlestore.jdbc.plugin.PoolMetricsPlugin;
+import com.singlestore.jdbc.pool.PoolMBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool metrics counting events by name, for testing purpose.
+ *
+ * <p>example : `jdbc:singlestore://host/db?pool&poolMetricsType=COUNTING`
+ */
+public class CountingPoolMetricsPlugin implements PoolMetricsPlugin {
+
+  public static final Map<String, Map<String, AtomicLong>> POOLS = new ConcurrentHashMap<>();
+
+  @Override
+  public String type() {
+    return "COUNTING";
+  }
+
+  @Override
+  public PoolMetrics create(String poolName, PoolMBean pool) {
+    Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    POOLS.put(poolName, counters);
+    return new PoolMetrics() {
+      private void count(String name) {
+        counters.computeIfAbsent(name, k -> new AtomicLong()).incrementAndGet();
+      }
+
+      @Override
+      public void connectionAcquired(long waitNanos) {
+        count("acquired");
+      }
+
+      @Override
+      public void connectionTimeout(long waitNanos) {
+        count("timeout");
+      }
+
+      @Override
+      public void connectionCreated(long creationNanos) {
+        count("created");
+      }
+
+      @Override
+      public void connectionCreationFailed() {
+        count("creationFailed");
+      }
+
+      @Override
+      public void connectionUsed(long usageNanos) {
+        count("used");
+      }
+
+      @Override
+      public void connectionReset(long resetNanos) {
+        count("reset");
+      }
+
+      @Override
+      public void connectionRemoved(RemovalReason reason) {
+        count("removed." + reason);
+      }
+
+      @Override
+      public void close() {
+        count("closed");
+      }
+    };
+  }
+
+  /**
+   * Get event count of a pool
+   *
+   * @param poolName pool name
+   * @param name event name
+   * @return event count
+   */
+  public static long count(String poolName, String name) {
+    AtomicLong counter = POOLS.get(poolName).get(name);
+    return counter == null ? 0 : counter.get();
+  }
+}
@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.integration.util;
+
+import com.singlestore.jdbc.plugin.QueryEvent;
+import com.singlestore.jdbc.plugin.QueryListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Query listener keeping all events, for testing purpose.
+ *
+ * <p>example : `jdbc:singlestore://host/db?queryListenerType=RECORDING`
+ */
+public class RecordingQueryListener implements QueryListener {
+
+  public static final List<QueryEvent> EVENTS = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String type() {
+    return "RECORDING";
+  }
+
+  @Override
+  public void queryCompleted(QueryEvent event) {
+    EVENTS.add(event);
+  }
+}
@@ -0,0 +1,215 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.Connection;
+import com.singlestore.jdbc.client.Client;
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.util.ClosableLock;
+import com.singlestore.jdbc.export.ExceptionFactory;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionBagTest {
+
+  private static Configuration conf;
+
+  private static InternalPoolConnection newItem() throws SQLException {
+    if (conf == null) conf = Configuration.parse("jdbc:singlestore://localhost/test");
+    Context context =
+        (Context)
+            Proxy.newProxyInstance(
+                Context.class.getClassLoader(),
+                new Class<?>[] {Context.class},
+                (proxy, method, args) -> "getConf".equals(method.getName()) ? conf : null);
+    ExceptionFactory exceptionFactory = new ExceptionFactory(conf, null);
+    Client client =
+        (Client)
+            Proxy.newProxyInstance(
+                Client.class.getClassLoader(),
+                new Class<?>[] {Client.class},
+                (proxy, method, args) -> {
+                  switch (method.getName()) {
+                    case "getContext":
+                      return context;
+                    case "getExceptionFactory":
+                      return exceptionFactory;
+                    default:
+                      return null;
+                  }
+                });
+    return new InternalPoolConnection(new Connection(conf, new ClosableLock(), client));
+  }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (thread.getState() != Thread.State.TIMED_WAITING) {
+      assertTrue(System.nanoTime() < end, "thread never waited");
+      Thread.sleep(1);
+    }
+  }
+
+  @Test
+  public void borrowAndReturn() throws Exception {
+    ConnectionBag bag = new ConnectionBag();
+    InternalPoolConnection item = newItem();
+    bag.add(item);
+    assertEquals(ConnectionBag.STATE_NOT_IN_USE, item.getState());
+    assertEquals(1, bag.idleCount());
+
+    assertSame(item, bag.borrow(0, TimeUnit.MILLISECONDS));
+    assertEquals(ConnectionBag.STATE_IN_USE, item.getState());
+    assertEquals(0, bag.idleCount());
+    assertNull(bag.borrow(0, TimeUnit.MILLISECONDS));
+
+    bag.requite(item);
+    assertEquals(ConnectionBag.STATE_NOT_IN_USE, item.getState());
+    assertEquals(1, bag.idleCount());
+
+    // reserved connection can not be borrowed, until made idle again
+    assertTrue(bag.reserve(item));
+    assertFalse(bag.reserve(item));
+    assertEquals(ConnectionBag.STATE_RESERVED, item.getState());
+    assertNull(bag.borrow(0, TimeUnit.MILLISECONDS));
+    bag.unreserve(item);
+    assertSame(item, bag.borrow(0, TimeUnit.MILLISECONDS));
+
+    assertTrue(bag.remove(item));
+    assertEquals(ConnectionBag.STATE_REMOVED, item.getState());
+    assertFalse(bag.remove(item));
+    assertTrue(bag.values().isEmpty());
+  }
+
+  @Test
+  public void removeRacingBorrow() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int i = 0; i < 500; i++) {
+        ConnectionBag bag = new ConnectionBag();
+        InternalPoolConnection item = newItem();
+        bag.add(item);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<InternalPoolConnection> borrowed =
+            executor.submit(
+                () -> {
+                  start.await();
+                  return bag.borrow(0, TimeUnit.MILLISECONDS);
+                });
+        Future<Boolean> reserved =
+            executor.submit(
+                () -> {
+                  start.await();
+                  return bag.reserve(item);
+                });
+        start.countDown();
+
+        // connection is owned by exactly one of them, and can then be removed
+        boolean isBorrowed = borrowed.get() != null;
+        assertTrue(isBorrowed != reserved.get());
+        assertEquals(
+            isBorrowed ? ConnectionBag.STATE_IN_USE : ConnectionBag.STATE_RESERVED,
+            item.getState());
+        assertTrue(bag.remove(item));
+        assertEquals(ConnectionBag.STATE_REMOVED, item.getState());
+        assertTrue(bag.values().isEmpty());
+        assertNull(bag.borrow(0, TimeUnit.MILLISECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void handoffToWaiter() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ConnectionBag bag = new ConnectionBag();
+      InternalPoolConnection item = newItem();
+      bag.add(item);
+      assertSame(item, bag.borrow(0, TimeUnit.MILLISECONDS));
+
+      // returned connection is handed off to waiting thread
+      Thread[] waiter = new Thread[1];
+      Future<InternalPoolConnection> waited =
+          executor.submit(
+              () -> {
+                waiter[0] = Thread.currentThread();
+                return bag.borrow(10, TimeUnit.SECONDS);
+              });
+      while (waiter[0] == null) Thread.sleep(1);
+      awaitWaiting(waiter[0]);
+      bag.requite(item);
+      assertSame(item, waited.get(10, TimeUnit.SECONDS));
+      assertEquals(ConnectionBag.STATE_IN_USE, item.getState());
+
+      // added connection is handed off to waiting thread
+      InternalPoolConnection added = newItem();
+      waited = executor.submit(() -> bag.borrow(10, TimeUnit.SECONDS));
+      awaitWaiting(waiter[0]);
+      bag.add(added);
+      assertSame(added, waited.get(10, TimeUnit.SECONDS));
+      assertEquals(ConnectionBag.STATE_IN_USE, added.getState());
+
+      // no connection returned in time
+      assertNull(bag.borrow(10, TimeUnit.MILLISECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void threadLocalAfterRemove() throws Exception {
+    ConnectionBag bag = new ConnectionBag();
+    InternalPoolConnection first = newItem();
+    InternalPoolConnection second = newItem();
+    bag.add(first);
+    bag.add(second);
+
+    // last used connection is borrowed first
+    InternalPoolConnection item = bag.borrow(0, TimeUnit.MILLISECONDS);
+    bag.requite(item);
+    assertSame(item, bag.borrow(0, TimeUnit.MILLISECONDS));
+
+    // removed connection is never borrowed again, even if last used by current thread
+    assertTrue(bag.remove(item));
+    InternalPoolConnection other = item == first ? second : first;
+    assertSame(other, bag.borrow(0, TimeUnit.MILLISECONDS));
+    assertEquals(ConnectionBag.STATE_REMOVED, item.getState());
+    assertNull(bag.borrow(0, TimeUnit.MILLISECONDS));
+    assertEquals(Arrays.asList(other), bag.values());
+  }
+
+  @Test
+  public void idleValues() throws Exception {
+    ConnectionBag bag = new ConnectionBag();
+    InternalPoolConnection first = newItem();
+    InternalPoolConnection second = newItem();
+    InternalPoolConnection third = newItem();
+    bag.add(first);
+    bag.add(second);
+    bag.add(third);
+    assertEquals(Arrays.asList(third, second, first), bag.idleValues());
+
+    assertTrue(bag.reserve(second));
+    assertEquals(Arrays.asList(third, first), bag.idleValues());
+    assertEquals(2, bag.idleCount());
+    assertEquals(Arrays.asList(first, second, third), bag.values());
+  }
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.impl.PrepareMetadataCache;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+public class PrepareMetadataCacheTest {
+
+  private static final HostAddress HOST = HostAddress.from("host1", 3306);
+
+  private static PrepareMetadataCache cache(String url) throws SQLException {
+    PrepareMetadataCache cache = PrepareMetadataCache.forConfiguration(Configuration.parse(url));
+    cache.clear();
+    return cache;
+  }
+
+  private static boolean matches(PrepareMetadataCache.Entry entry, byte[]... definitions) {
+    if (entry == null || entry.size() != definitions.length) return false;
+    for (int i = 0; i < definitions.length; i++) {
+      // received packet is usually part of a bigger buffer
+      byte[] packet = new byte[definitions[i].length + 2];
+      System.arraycopy(definitions[i], 0, packet, 1, definitions[i].length);
+      StandardReadableByteBuf buf = new StandardReadableByteBuf(packet, packet.length - 1);
+      buf.pos(1);
+      if (!entry.matches(i, buf)) return false;
+    }
+    return true;
+  }
+
+  @Test
+  public void sharedByConfiguration() throws SQLException {
+    String url = "jdbc:singlestore://host1/db?sharedPrepareMetadataSize=1";
+    PrepareMetadataCache cache = cache(url);
+    assertSame(cache, PrepareMetadataCache.forConfiguration(Configuration.parse(url)));
+    assertSame(cache, PrepareMetadataCache.lookup(Configuration.parse(url)));
+    assertNull(
+        PrepareMetadataCache.lookup(
+            Configuration.parse("jdbc:singlestore://unknownHost/db?sharedPrepareMetadataSize=1")));
+
+    // size is the one of each configuration
+    PrepareMetadataCache bigger = cache("jdbc:singlestore://host1/db?sharedPrepareMetadataSize=2");
+    assertNotSame(cache, bigger);
+    ColumnDecoder[] columns = new ColumnDecoder[] {ColumnDecoder.create("t1", DataType.INT, 0)};
+    byte[][] definitions = new byte[][] {{1, 2, 3}};
+    for (String sql : new String[] {"db|SELECT 1", "db|SELECT 2"}) {
+      cache.put(HOST, sql, definitions, columns);
+      bigger.put(HOST, sql, definitions, columns);
+    }
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.evictionCount());
+    assertEquals(2, bigger.size());
+    assertEquals(0, bigger.evictionCount());
+
+    // size applies for each host
+    cache.put(HostAddress.from("host2", 3306), "db|SELECT 1", definitions, columns);
+    assertEquals(2, cache.size());
+    assertNull(cache.get(HostAddress.from("host3", 3306), "db|SELECT 1"));
+  }
+
+  @Test
+  public void counters() throws SQLException {
+    PrepareMetadataCache cache =
+        cache("jdbc:singlestore://counters/db?sharedPrepareMetadataSize=2");
+    ColumnDecoder[] columns = new ColumnDecoder[] {ColumnDecoder.create("t1", DataType.INT, 0)};
+    byte[][] definitions = new byte[][] {{1, 2, 3}};
+    assertNull(cache.get(HOST, "db|SELECT 1"));
+    cache.put(HOST, "db|SELECT 1", definitions, columns);
+    PrepareMetadataCache.Entry entry = cache.get(HOST, "db|SELECT 1");
+    assertTrue(matches(entry, new byte[] {1, 2, 3}));
+    assertSame(columns, cache.hit(entry));
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+
+    cache.put(HOST, "db|SELECT 2", definitions, columns);
+    cache.put(HOST, "db|SELECT 2", definitions, columns);
+    assertEquals(0, cache.evictionCount());
+    cache.put(HOST, "db|SELECT 3", definitions, columns);
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.evictionCount());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.hitCount());
+    assertEquals(0, cache.evictionCount());
+  }
+
+  @Test
+  public void changedDefinitions() throws SQLException {
+    PrepareMetadataCache cache =
+        cache("jdbc:singlestore://changedDefinitions/db?sharedPrepareMetadataSize=10");
+    ColumnDecoder[] columns = new ColumnDecoder[] {ColumnDecoder.create("t1", DataType.INT, 0)};
+    cache.put(HOST, "db|SELECT * FROM t", new byte[][] {{1, 2, 3}}, columns);
+
+    // column type altered, or columns added: outdated metadata must not be used
+    PrepareMetadataCache.Entry entry = cache.get(HOST, "db|SELECT * FROM t");
+    assertFalse(matches(entry, new byte[] {1, 2, 4}));
+    assertFalse(matches(entry, new byte[] {1, 2, 3, 4}));
+    assertFalse(matches(entry, new byte[] {1, 2, 3}, new byte[] {1, 2, 3}));
+
+    ColumnDecoder[] newColumns =
+        new ColumnDecoder[] {ColumnDecoder.create("t1", DataType.BIGINT, 0)};
+    cache.put(HOST, "db|SELECT * FROM t", new byte[][] {{1, 2, 4}}, newColumns);
+    assertTrue(matches(cache.get(HOST, "db|SELECT * FROM t"), new byte[] {1, 2, 4}));
+
+    // invalidation only removes the given metadata
+    cache.invalidate(HOST, "db|SELECT * FROM t", columns);
+    assertNotNull(cache.get(HOST, "db|SELECT * FROM t"));
+    cache.invalidate(HOST, "db|SELECT * FROM t", newColumns);
+    assertNull(cache.get(HOST, "db|SELECT * FROM t"));
+  }
+
+  @Test
+  public void partiallyChangedDefinitions() throws SQLException {
+    PrepareMetadataCache cache =
+        cache("jdbc:singlestore://partiallyChanged/db?sharedPrepareMetadataSize=10");
+    ColumnDecoder[] columns =
+        new ColumnDecoder[] {
+          ColumnDecoder.create("t1", DataType.INT, 0), ColumnDecoder.create("t2", DataType.INT, 0)
+        };
+    byte[][] definitions = new byte[][] {{1}, {2}};
+    cache.put(HOST, "db|SELECT * FROM t", definitions, columns);
+
+    // identical first columns are reused up to first differing one
+    byte[][] newDefinitions = new byte[2][];
+    ColumnDecoder[] newColumns = new ColumnDecoder[2];
+    cache.get(HOST, "db|SELECT * FROM t").copyTo(newDefinitions, newColumns, 1);
+    assertSame(definitions[0], newDefinitions[0]);
+    assertSame(columns[0], newColumns[0]);
+    assertNull(newColumns[1]);
+  }
+
+  @Test
+  public void columnStringsDecodedOnce() {
+    ColumnDecoder column = ColumnDecoder.create("t1", DataType.INT, 0);
+    assertEquals("t1", column.getColumnName());
+    assertSame(column.getColumnName(), column.getColumnName());
+    assertEquals("", column.getSchema());
+  }
+}
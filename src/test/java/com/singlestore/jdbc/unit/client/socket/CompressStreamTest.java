@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client.socket;
+
+import com.singlestore.jdbc.client.socket.impl.CompressInputStream;
+import com.singlestore.jdbc.client.socket.impl.CompressOutputStream;
+import com.singlestore.jdbc.client.util.MutableByte;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompressStreamTest {
+
+  @Test
+  public void roundTrip() throws IOException {
+    roundTrip(6, 1536);
+    roundTrip(1, 0);
+    roundTrip(9, 100_000);
+  }
+
+  private void roundTrip(int level, int minSize) throws IOException {
+    int[] sizes = new int[] {0, 10, 1535, 1536, 8192, 70_000, 2 * 1024 * 1024};
+    byte[][] packets = new byte[sizes.length * 2][];
+    Random random = new Random(level);
+    for (int i = 0; i < sizes.length; i++) {
+      // compressible data
+      packets[2 * i] = new byte[sizes[i]];
+      for (int j = 0; j < sizes[i]; j++) packets[2 * i][j] = (byte) ('A' + (j % 60));
+      // random data, that does not compress
+      packets[2 * i + 1] = new byte[sizes[i]];
+      random.nextBytes(packets[2 * i + 1]);
+    }
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CompressOutputStream out = new CompressOutputStream(baos, new MutableByte(), level, minSize);
+    for (byte[] packet : packets) {
+      out.write(packet, 0, packet.length);
+    }
+    out.flush();
+
+    CompressInputStream in =
+        new CompressInputStream(new ByteArrayInputStream(baos.toByteArray()), new MutableByte());
+    for (byte[] packet : packets) {
+      byte[] read = new byte[packet.length];
+      int pos = 0;
+      while (pos < read.length) {
+        pos += in.read(read, pos, read.length - pos);
+      }
+      Assertions.assertArrayEquals(packet, read);
+    }
+    Assertions.assertEquals(0, in.available());
+    in.close();
+    out.close();
+  }
+}
@@ -6,6 +6,8 @@
 package com.singlestore.jdbc.unit.client.socket;
 
 import com.singlestore.jdbc.client.socket.impl.PacketWriter;
+import com.singlestore.jdbc.client.util.MutableByte;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -27,4 +29,59 @@ public class PacketWriterTest {
       Assertions.assertEquals('a' + i, pw.buf()[i + 8194]);
     }
   }
+
+  @Test
+  public void bigArrayWithoutCopy() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter pw = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+    byte[] arr = new byte[0xffffff + 1000];
+    for (int i = 0; i < arr.length; i++) arr[i] = (byte) i;
+
+    pw.initPacket();
+    pw.writeByte(0x17);
+    pw.writeBytes(arr, 0, arr.length);
+    pw.writeAscii("end");
+    // array is sent without going through buffer
+    Assertions.assertEquals(PacketWriter.SMALL_BUFFER_SIZE, pw.buf().length);
+    pw.flush();
+
+    byte[] res = out.toByteArray();
+    int totalLength = 1 + arr.length + 3;
+    Assertions.assertEquals(totalLength + 8, res.length);
+    // first packet is full, second contains remaining data
+    Assertions.assertEquals((byte) 0xff, res[0]);
+    Assertions.assertEquals((byte) 0xff, res[1]);
+    Assertions.assertEquals((byte) 0xff, res[2]);
+    Assertions.assertEquals(0, res[3]);
+    Assertions.assertEquals(0x17, res[4]);
+    int secondHeader = 4 + 0xffffff;
+    Assertions.assertEquals(
+        totalLength - 0xffffff,
+        (res[secondHeader] & 0xff) + ((res[secondHeader + 1] & 0xff) << 8));
+    Assertions.assertEquals(1, res[secondHeader + 3]);
+    for (int i = 0; i < arr.length; i++) {
+      int idx = i + 5 < secondHeader ? i + 5 : i + 9;
+      Assertions.assertEquals(arr[i], res[idx]);
+    }
+    Assertions.assertEquals('e', res[res.length - 3]);
+  }
+
+  @Test
+  public void rewindDiscardsBigArray() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PacketWriter pw = new PacketWriter(out, 0, null, new MutableByte(), new MutableByte());
+    byte[] arr = new byte[0x100000];
+
+    pw.initPacket();
+    pw.writeBytes(arr, 0, arr.length);
+    // rewinding exactly to array position discards array
+    pw.pos(4);
+    pw.writeAscii("end");
+    pw.flush();
+
+    byte[] res = out.toByteArray();
+    Assertions.assertEquals(7, res.length);
+    Assertions.assertEquals(3, res[0]);
+    Assertions.assertEquals('e', res[4]);
+  }
 }
@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2012-2014 Monty Program Ab
+// Copyright (c) 2015-2025 MariaDB Corporation Ab
+// Copyright (c) 2021-2025 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.codec.CodecCache;
+import com.singlestore.jdbc.plugin.Codec;
+import com.singlestore.jdbc.plugin.codec.IntCodec;
+import com.singlestore.jdbc.plugin.codec.LongCodec;
+import com.singlestore.jdbc.plugin.codec.StringCodec;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+public class CodecCacheTest {
+
+  @Test
+  public void sameResolutionAsCodecList() throws SQLException {
+    Configuration conf = Configuration.parse("jdbc:singlestore://localhost/db");
+    CodecCache cache = conf.codecCache();
+    assertNotNull(cache);
+
+    ColumnDecoder intColumn = ColumnDecoder.create("t1", DataType.INT, 0);
+    ColumnDecoder textColumn = ColumnDecoder.create("t2", DataType.VARCHAR, 0);
+    for (Class<?> type : new Class<?>[] {Integer.class, Long.class, String.class, Thread.class}) {
+      for (ColumnDecoder column : new ColumnDecoder[] {intColumn, textColumn}) {
+        Codec<?> expected = null;
+        for (Codec<?> codec : conf.codecs()) {
+          if (codec.canDecode(column, type)) {
+            expected = codec;
+            break;
+          }
+        }
+        // second call is served from cache
+        assertSame(expected, cache.decoder(column, type));
+        assertSame(expected, cache.decoder(column, type));
+      }
+    }
+    assertTrue(cache.decoder(intColumn, Integer.class) instanceof IntCodec);
+
+    assertTrue(cache.encoder(5L) instanceof LongCodec);
+    assertSame(cache.encoder(5L), cache.encoder(6L));
+    assertTrue(cache.encoder("a") instanceof StringCodec);
+    assertNull(cache.encoder(new Object()));
+  }
+}
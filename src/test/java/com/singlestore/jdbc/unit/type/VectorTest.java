@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.type.Vector;
+import java.nio.FloatBuffer;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
@@ -90,4 +91,49 @@ public class VectorTest {
     assertEquals(DataType.FLOAT64_VECTOR, vector.getType());
     assertFalse(vector.isBinary());
   }
+
+  @Test
+  public void ofFloat32BinaryValuesTest() {
+    float[] arr = new float[] {0f, Float.MIN_VALUE, Float.MAX_VALUE, 432.224f, -23445.313401f};
+    Vector vector = Vector.ofFloat32BinaryValues(arr);
+    assertTrue(vector.isBinary());
+    assertEquals(DataType.FLOAT32_VECTOR, vector.getType());
+    assertEquals(5, vector.getLength());
+    assertEquals(20, vector.getValuesLength());
+    assertArrayEquals(arr, vector.toFloatArray());
+    assertEquals("[0.0,1.4E-45,3.4028235E38,432.224,-23445.312]", vector.stringValue());
+    assertEquals(vector, Vector.fromData(vector.getValues(), 5, DataType.FLOAT32_VECTOR, true));
+
+    FloatBuffer buffer = vector.asFloatBuffer();
+    assertTrue(buffer.isReadOnly());
+    assertEquals(5, buffer.remaining());
+    for (int i = 0; i < arr.length; i++) {
+      assertEquals(arr[i], buffer.get(i));
+    }
+
+    float[] read = new float[5];
+    Vector.ofFloat32Values(arr).asFloatBuffer().get(read);
+    assertArrayEquals(arr, read);
+  }
+
+  @Test
+  public void ofBinaryValuesTest() {
+    double[] doubles = new double[] {0, Double.MIN_VALUE, Double.MAX_VALUE, -23.33442342341221d};
+    assertArrayEquals(doubles, Vector.ofFloat64BinaryValues(doubles).toDoubleArray());
+
+    byte[] bytes = new byte[] {0, Byte.MIN_VALUE, Byte.MAX_VALUE, 21};
+    assertArrayEquals(bytes, Vector.ofInt8BinaryValues(bytes).toByteArray());
+
+    short[] shorts = new short[] {0, Short.MIN_VALUE, Short.MAX_VALUE, -75};
+    assertArrayEquals(shorts, Vector.ofInt16BinaryValues(shorts).toShortArray());
+
+    int[] ints = new int[] {0, Integer.MIN_VALUE, Integer.MAX_VALUE, -23445};
+    assertArrayEquals(ints, Vector.ofInt32BinaryValues(ints).toIntArray());
+
+    long[] longs = new long[] {0, Long.MIN_VALUE, Long.MAX_VALUE, -23445};
+    Vector vector = Vector.ofInt64BinaryValues(longs);
+    assertTrue(vector.isBinary());
+    assertEquals(DataType.INT64_VECTOR, vector.getType());
+    assertArrayEquals(longs, vector.toLongArray());
+  }
 }
@@ -8,6 +8,7 @@ package com.singlestore.jdbc.unit.util;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.singlestore.jdbc.util.ClientParser;
+import com.singlestore.jdbc.util.ParsedSqlCache;
 import com.singlestore.jdbc.util.RewriteClientParser;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
@@ -181,4 +182,39 @@ public class ClientParserTest {
                 "REPLACE INTO TEST(t0, t1) VALUES (LAST_INSERT_ID(), ?)")
             .isQueryMultiValuesRewritable());
   }
+
+  @Test
+  public void parsedSqlCache() {
+    ParsedSqlCache<ClientParser> cache = new ParsedSqlCache<>(2, 40, ClientParser::parameterParts);
+    ClientParser parser = cache.get("SELECT * FROM t WHERE a = ?");
+    assertEquals(1, parser.getParamCount());
+    assertSame(parser, cache.get("SELECT * FROM t WHERE a = ?"));
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+
+    // too long to be cached
+    String longSql = "SELECT * FROM some_table WHERE a = ? AND b = ?";
+    assertEquals(2, cache.get(longSql).getParamCount());
+    assertNotSame(cache.get(longSql), cache.get(longSql));
+    assertEquals(1, cache.size());
+
+    // bounded size
+    cache.get("SELECT ?");
+    cache.get("SELECT ?, ?");
+    assertEquals(2, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.hitCount());
+    assertEquals(0, cache.missCount());
+
+    String sql = "INSERT INTO TEST(t0, t1) VALUES (?, ?)";
+    assertSame(
+        RewriteClientParser.rewritableParts(sql, true),
+        RewriteClientParser.rewritableParts(sql, true));
+    assertNotSame(
+        RewriteClientParser.rewritableParts(sql, false),
+        RewriteClientParser.rewritableParts(sql, false));
+    assertSame(ClientParser.parameterParts(sql, true), ClientParser.parameterParts(sql, true));
+  }
 }
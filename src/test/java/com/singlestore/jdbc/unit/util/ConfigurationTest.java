@@ -824,6 +824,20 @@ public class ConfigurationTest extends Common {
     assertNotEquals(Configuration.parse("jdbc:singlestore://localhost/test2"), conf);
   }
 
+  @Test
+  public void chunkedReadBuffer() throws SQLException {
+    assertEquals(0, Configuration.parse("jdbc:singlestore://localhost/test").readBufferSize());
+    assertEquals(
+        65536,
+        Configuration.parse("jdbc:singlestore://localhost/test?resultChunkSize=4096")
+            .readBufferSize());
+    assertEquals(
+        2048,
+        Configuration.parse(
+                "jdbc:singlestore://localhost/test?resultChunkSize=4096&readBufferSize=2048")
+            .readBufferSize());
+  }
+
   @Test
   public void toConf() throws SQLException {
     assertTrue(
@@ -7,6 +7,7 @@ package com.singlestore.jdbc.unit.util.constant;
 
 import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.client.impl.ConnectionHelper;
+import com.singlestore.jdbc.client.impl.HostStatistics;
 import com.singlestore.jdbc.export.HaMode;
 import com.singlestore.jdbc.plugin.authentication.AuthenticationPluginLoader;
 import com.singlestore.jdbc.plugin.credential.CredentialPluginLoader;
@@ -91,6 +92,41 @@ public class HaModeTest {
     Assertions.assertEquals(200, res.get(host5));
   }
 
+  @Test
+  public void latencyTest() {
+    HostAddress fast = HostAddress.from("latency-fast", 3306);
+    HostAddress medium = HostAddress.from("latency-medium", 3306);
+    HostAddress slow = HostAddress.from("latency-slow", 3306);
+    HostStatistics.forHost(fast).recordLatency(1_000_000);
+    HostStatistics.forHost(medium).recordLatency(5_000_000);
+    HostStatistics.forHost(slow).recordLatency(50_000_000);
+
+    List<HostAddress> available = new ArrayList<>();
+    available.add(fast);
+    available.add(medium);
+    available.add(slow);
+
+    ConcurrentMap<HostAddress, Long> denyList = new ConcurrentHashMap<>();
+    Map<HostAddress, Integer> res = loopPercReturn(HaMode.LATENCY, available, denyList);
+    // slowest host is never chosen against another host
+    Assertions.assertNull(res.get(slow));
+    Assertions.assertTrue(res.get(fast) > res.get(medium), res.toString());
+
+    // in-flight requests make a host more expensive
+    for (int i = 0; i < 10; i++) HostStatistics.forHost(fast).requestStarted();
+    res = loopPercReturn(HaMode.LATENCY, available, denyList);
+    Assertions.assertTrue(res.get(medium) > res.get(fast), res.toString());
+    for (int i = 0; i < 10; i++) HostStatistics.forHost(fast).requestEnded();
+
+    denyList.putIfAbsent(fast, System.currentTimeMillis() + 1000000);
+    denyList.putIfAbsent(medium, System.currentTimeMillis() + 1000000);
+    res = loopPercReturn(HaMode.LATENCY, available, denyList);
+    Assertions.assertEquals(1000, res.get(slow));
+
+    denyList.putIfAbsent(slow, System.currentTimeMillis() + 1000000);
+    Assertions.assertFalse(HaMode.LATENCY.getAvailableHost(available, denyList).isPresent());
+  }
+
   @Test
   public void noneTest() {
     HostAddress host1 = HostAddress.from("1", 3306);
@@ -110,9 +146,14 @@ public class HaModeTest {
 
   private Map<HostAddress, Integer> loopPercReturn(
       List<HostAddress> available, ConcurrentMap<HostAddress, Long> denyList) {
+    return loopPercReturn(HaMode.LOADBALANCE, available, denyList);
+  }
+
+  private Map<HostAddress, Integer> loopPercReturn(
+      HaMode haMode, List<HostAddress> available, ConcurrentMap<HostAddress, Long> denyList) {
     Map<HostAddress, Integer> resMap = new HashMap<>();
     for (int i = 0; i < 1000; i++) {
-      Optional<HostAddress> res = HaMode.LOADBALANCE.getAvailableHost(available, denyList);
+      Optional<HostAddress> res = haMode.getAvailableHost(available, denyList);
       if (res.isPresent()) {
         if (resMap.containsKey(res.get())) {
           resMap.put(res.get(), resMap.get(res.get()) + 1);
@@ -22,17 +22,55 @@ public class ConsoleLoggerTest {
 
   @Test
   public void logger() throws IOException {
-    logger(CONSOLE_LOG_LEVEL.TRACE);
-    logger(CONSOLE_LOG_LEVEL.INFO);
+    logger(CONSOLE_LOG_LEVEL.TRACE, false);
+    logger(CONSOLE_LOG_LEVEL.INFO, false);
   }
 
-  public void logger(CONSOLE_LOG_LEVEL logLevel) throws IOException {
+  @Test
+  public void asyncLogger() throws IOException {
+    logger(CONSOLE_LOG_LEVEL.TRACE, true);
+    logger(CONSOLE_LOG_LEVEL.INFO, true);
+  }
+
+  @Test
+  public void asyncConcurrentLogger() throws Exception {
+    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      ConsoleLogger logger =
+          new ConsoleLogger(
+              new ConsoleLoggerKey("test", CONSOLE_LOG_LEVEL.INFO, null, false, 10, true),
+              new PrintStream(out),
+              new PrintStream(out));
+      Thread[] threads = new Thread[8];
+      for (int i = 0; i < threads.length; i++) {
+        final int threadNum = i;
+        threads[i] =
+            new Thread(
+                () -> {
+                  for (int j = 0; j < 1000; j++) {
+                    logger.info("thread {} msg {}", threadNum, j);
+                  }
+                });
+        threads[i].start();
+      }
+      for (Thread thread : threads) thread.join();
+      ConsoleLogger.flush(10_000);
+
+      // INFO entries are never discarded, and each entry is written at once
+      String[] lines = out.toString().split("\n");
+      assertEquals(8000, lines.length);
+      for (String line : lines) {
+        assertTrue(line.matches(".* INFO test thread \\d msg \\d+"), line);
+      }
+    }
+  }
+
+  public void logger(CONSOLE_LOG_LEVEL logLevel, boolean async) throws IOException {
     try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
       try (ByteArrayOutputStream err = new ByteArrayOutputStream()) {
 
         ConsoleLogger logger =
             new ConsoleLogger(
-                new ConsoleLoggerKey("test", logLevel, null, false, 10),
+                new ConsoleLoggerKey("test", logLevel, null, false, 10, async),
                 new PrintStream(out),
                 new PrintStream(err));
 
@@ -64,6 +102,7 @@ public class ConsoleLoggerTest {
         logger.trace("trace msg3 {} {}", 1, "t");
         logger.trace("trace msg2", new SQLException("test"));
 
+        if (async) ConsoleLogger.flush(10_000);
         String errSt = err.toString();
         String outSt = out.toString();
 